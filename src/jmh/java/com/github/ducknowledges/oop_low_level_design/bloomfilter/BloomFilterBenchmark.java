@@ -0,0 +1,90 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BloomFilterBenchmark {
+
+    private static final int EXPECTED_INSERTIONS = 1 << 16;
+    private static final int VALUES = 1024;
+
+    @Param({"0.01", "0.001"})
+    private double falsePositiveRate;
+
+    private BloomFilter<String> filter;
+    private MappedBloomFilter<String> mappedFilter;
+    private Path filterFile;
+    private String[] present;
+    private String[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillFilter() throws IOException {
+        this.filter = new BloomFilter<>(EXPECTED_INSERTIONS, falsePositiveRate);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            this.filter.add("value-" + i);
+        }
+        this.present = new String[VALUES];
+        this.absent = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            this.present[i] = "value-" + i * 61;
+            this.absent[i] = "absent-" + i;
+        }
+        this.filterFile = Files.createTempFile("bloom-filter", ".bin");
+        this.filter.writeTo(this.filterFile);
+        this.mappedFilter = new MappedBloomFilter<>(this.filterFile);
+    }
+
+    @TearDown
+    public void deleteFilterFile() throws IOException {
+        Files.deleteIfExists(this.filterFile);
+    }
+
+    @Benchmark
+    public void add() {
+        filter.add(present[next()]);
+    }
+
+    @Benchmark
+    public boolean hasValuePresent() {
+        return filter.hasValue(present[next()]);
+    }
+
+    @Benchmark
+    public boolean hasValuePresentMapped() {
+        return mappedFilter.hasValue(present[next()]);
+    }
+
+    /**
+     * Mostly rejected values, the probing stops at the first unset bit.
+     */
+    @Benchmark
+    public boolean hasValueAbsent() {
+        return filter.hasValue(absent[next()]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (VALUES - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of one filter shared by 1, 4 and 16 threads, the score is the sum over all threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentBloomFilterBenchmark {
+
+    private static final int EXPECTED_INSERTIONS = 1 << 20;
+    private static final int VALUES = 1 << 16;
+
+    private ConcurrentBloomFilter<String> filter;
+    private String[] values;
+
+    @Setup
+    public void createFilter() {
+        this.filter = new ConcurrentBloomFilter<>(EXPECTED_INSERTIONS, 0.01);
+        this.values = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            this.values[i] = "value-" + i;
+            if (i % 2 == 0) {
+                this.filter.add(this.values[i]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        @Setup
+        public void spread() {
+            this.position = (int) (Thread.currentThread().getId() * 7919) & (VALUES - 1);
+        }
+
+        int next() {
+            position = (position + 1) & (VALUES - 1);
+            return position;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void add1(Cursor cursor) {
+        filter.add(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void add4(Cursor cursor) {
+        filter.add(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void add16(Cursor cursor) {
+        filter.add(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean hasValue1(Cursor cursor) {
+        return filter.hasValue(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean hasValue4(Cursor cursor) {
+        return filter.hasValue(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean hasValue16(Cursor cursor) {
+        return filter.hasValue(values[cursor.next()]);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the counting bloom filter with the plain one,
+ * run with {@code -PjmhProfilers=gc} to see the memory of each filter in the create benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountingBloomFilterBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({"65536", "1048576"})
+    private int expectedInsertions;
+
+    private CountingBloomFilter<String> countingFilter;
+    private BloomFilter<String> filter;
+    private String[] values;
+    private int cursor;
+
+    @Setup
+    public void fillFilters() {
+        this.countingFilter = new CountingBloomFilter<>(expectedInsertions, 0.01);
+        this.filter = new BloomFilter<>(expectedInsertions, 0.01);
+        for (int i = 0; i < expectedInsertions / 2; i++) {
+            this.countingFilter.add("value-" + i);
+            this.filter.add("value-" + i);
+        }
+        this.values = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            this.values[i] = "value-" + i;
+        }
+    }
+
+    @Benchmark
+    public BloomFilter<String> createPlain() {
+        return new BloomFilter<>(expectedInsertions, 0.01);
+    }
+
+    @Benchmark
+    public CountingBloomFilter<String> createCounting() {
+        return new CountingBloomFilter<>(expectedInsertions, 0.01);
+    }
+
+    @Benchmark
+    public boolean hasValuePlain() {
+        return filter.hasValue(values[next()]);
+    }
+
+    @Benchmark
+    public boolean hasValueCounting() {
+        return countingFilter.hasValue(values[next()]);
+    }
+
+    /**
+     * Removes a present value and adds it back, so the filter content stays the same.
+     */
+    @Benchmark
+    public int removeAndAddCounting() {
+        String value = values[next()];
+        countingFilter.remove(value);
+        countingFilter.add(value);
+        return countingFilter.getRemoveStatus();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (VALUES - 1);
+        return cursor;
+    }
+}
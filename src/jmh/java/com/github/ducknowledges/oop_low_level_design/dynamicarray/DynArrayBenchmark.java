@@ -0,0 +1,239 @@
+package com.github.ducknowledges.oop_low_level_design.dynamicarray;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynArrayBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] elements;
+    private List<Integer> elementList;
+    private List<Integer> chunk;
+    private DynArray<Integer> filled;
+    private DynArray<Integer> fullBuffer;
+    private DynArray<Integer> indexed;
+    private IntDynArray filledInt;
+
+    @Setup(Level.Trial)
+    public void prepareElements() {
+        this.elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            this.elements[i] = i;
+        }
+        this.elementList = Arrays.asList(this.elements);
+        this.chunk = this.elementList.subList(0, size / 10);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillArray() {
+        this.filled = new DynArray<>();
+        for (Integer element : elements) {
+            this.filled.append(element);
+        }
+        this.indexed = new DynArray<>();
+        this.indexed.enableIndex();
+        this.indexed.appendAll(elementList);
+        this.fullBuffer = new DynArray<>();
+        while (this.fullBuffer.size() < size || this.fullBuffer.size() < this.fullBuffer.capacity()) {
+            this.fullBuffer.append(elements[0]);
+        }
+        this.filledInt = new IntDynArray();
+        for (int i = 0; i < size; i++) {
+            this.filledInt.append(i);
+        }
+    }
+
+    /**
+     * Appends {@code size} elements to an empty array, including every buffer growth.
+     */
+    @Benchmark
+    public DynArray<Integer> append() {
+        DynArray<Integer> array = new DynArray<>();
+        for (Integer element : elements) {
+            array.append(element);
+        }
+        return array;
+    }
+
+    /**
+     * Appends {@code size} elements with a single bulk call.
+     */
+    @Benchmark
+    public DynArray<Integer> appendAll() {
+        DynArray<Integer> array = new DynArray<>();
+        array.appendAll(elementList);
+        return array;
+    }
+
+    /**
+     * Removes a tenth of the array from the middle and inserts it back with bulk calls.
+     */
+    @Benchmark
+    public int removeRangeAndInsertAll() {
+        int middle = size / 2;
+        filled.removeRange(middle, middle + chunk.size());
+        filled.insertAll(middle, chunk);
+        return filled.getInsertAllStatus();
+    }
+
+    /**
+     * Removes a tenth of the array from the middle and inserts it back element by element,
+     * the baseline for {@link #removeRangeAndInsertAll()}.
+     */
+    @Benchmark
+    public int removeAndInsertChunk() {
+        int middle = size / 2;
+        for (int i = 0; i < chunk.size(); i++) {
+            filled.remove(middle);
+        }
+        for (int i = chunk.size() - 1; i >= 0; i--) {
+            filled.insert(middle, chunk.get(i));
+        }
+        return filled.getInsertStatus();
+    }
+
+    /**
+     * Inserts into the middle of a filled array and removes the same position,
+     * so the array stays at {@code size} elements between invocations.
+     */
+    @Benchmark
+    public int insertAndRemoveMiddle() {
+        int middle = size / 2;
+        filled.insert(middle, elements[0]);
+        filled.remove(middle);
+        return filled.getRemoveStatus();
+    }
+
+    /**
+     * Inserts at the head and removes the head: the worst case for element shifting.
+     */
+    @Benchmark
+    public int insertAndRemoveHead() {
+        filled.insert(0, elements[0]);
+        filled.remove(0);
+        return filled.getRemoveStatus();
+    }
+
+    /**
+     * Appends to a completely filled buffer and removes the element again,
+     * the workload that made the buffer grow and shrink on every call before hysteresis.
+     */
+    @Benchmark
+    public long appendAndRemoveAtBoundary() {
+        fullBuffer.append(elements[0]);
+        fullBuffer.remove(fullBuffer.size() - 1);
+        fullBuffer.remove(fullBuffer.size() - 1);
+        fullBuffer.append(elements[0]);
+        return fullBuffer.getShrinkCount();
+    }
+
+    /**
+     * Removes the last element and appends it back: the cheapest remove path.
+     */
+    @Benchmark
+    public int removeAndAppendLast() {
+        filled.remove(size - 1);
+        filled.append(elements[size - 1]);
+        return filled.getRemoveStatus();
+    }
+
+    @Benchmark
+    public int getIndexOfLast() {
+        return filled.getIndexOf(elements[size - 1]);
+    }
+
+    @Benchmark
+    public int getIndexOfLastIndexed() {
+        return indexed.getIndexOf(elements[size - 1]);
+    }
+
+    /**
+     * Appends to an indexed array and looks the element up, the index is updated in place.
+     */
+    @Benchmark
+    public int appendAndGetIndexOfIndexed() {
+        indexed.append(elements[0]);
+        int index = indexed.getIndexOf(elements[size - 1]);
+        indexed.remove(indexed.size() - 1);
+        return index;
+    }
+
+    /**
+     * Appends {@code size} primitive samples that have to be boxed on the way in,
+     * the baseline for the primitive specialised arrays below.
+     */
+    @Benchmark
+    public DynArray<Integer> appendAutoboxed() {
+        DynArray<Integer> array = new DynArray<>();
+        for (int i = 0; i < size; i++) {
+            array.append(i + 1024);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public IntDynArray appendInt() {
+        IntDynArray array = new IntDynArray();
+        for (int i = 0; i < size; i++) {
+            array.append(i + 1024);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public LongDynArray appendLong() {
+        LongDynArray array = new LongDynArray();
+        for (int i = 0; i < size; i++) {
+            array.append(i + 1024L);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public DoubleDynArray appendDouble() {
+        DoubleDynArray array = new DoubleDynArray();
+        for (int i = 0; i < size; i++) {
+            array.append(i + 1024.0);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += filled.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumInt() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += filledInt.get(i);
+        }
+        return sum;
+    }
+}
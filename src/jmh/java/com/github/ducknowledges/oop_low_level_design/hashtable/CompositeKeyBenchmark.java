@@ -0,0 +1,84 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and removes of long keys with a common prefix, where equals() costs more than hashing.
+ * The table caches the hash codes, so probing past other keys does not call equals() on them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeKeyBenchmark {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int LOOKUPS = 1024;
+    private static final String PREFIX = "tenant-00000042/region-eu-west/service-billing/session-";
+
+    @Param({"0.75", "0.9"})
+    private double loadFactor;
+
+    private HashTable<String> table;
+    private String[] present;
+    private String[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillTable() {
+        int count = (int) (CAPACITY * loadFactor);
+        Random random = new Random(42);
+        this.table = new HashTable<>(CAPACITY);
+        this.present = new String[LOOKUPS];
+        this.absent = new String[LOOKUPS];
+
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = PREFIX + (random.nextInt() & ~1);
+            this.table.put(keys[i]);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = new String(keys[random.nextInt(count)]);
+            this.absent[i] = PREFIX + (random.nextInt() | 1);
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return table.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return table.contains(absent[next()]);
+    }
+
+    /**
+     * Removes a present key and puts it back, every remove re-places the rest of the cluster.
+     */
+    @Benchmark
+    public int removeAndPut() {
+        String key = present[next()];
+        table.tryRemove(key);
+        return table.tryPut(key);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
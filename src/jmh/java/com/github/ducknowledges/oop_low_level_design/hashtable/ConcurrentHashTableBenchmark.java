@@ -0,0 +1,124 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of one set shared by 1, 4 and 16 threads, the score is the sum over all threads.
+ * The striped table is compared with a HashTable behind a global lock.
+ * Every eighth operation is a remove and put, the rest are contains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentHashTableBenchmark {
+
+    private static final int VALUES = 1 << 16;
+    private static final int WRITE_MASK = 7;
+
+    private ConcurrentHashTable<Integer> striped;
+    private HashTable<Integer> locked;
+    private Integer[] values;
+
+    @Setup
+    public void createTables() {
+        this.striped = new ConcurrentHashTable<>(VALUES);
+        this.locked = new HashTable<>(VALUES, 0.75);
+        this.values = new Integer[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            this.values[i] = i;
+            if (i % 2 == 0) {
+                this.striped.put(this.values[i]);
+                this.locked.put(this.values[i]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        @Setup
+        public void spread() {
+            this.position = (int) (Thread.currentThread().getId() * 7919) & (VALUES - 1);
+        }
+
+        int next() {
+            position = (position + 1) & (VALUES - 1);
+            return position;
+        }
+    }
+
+    private boolean striped(Cursor cursor) {
+        int position = cursor.next();
+        Integer value = values[position];
+        if ((position & WRITE_MASK) == 0) {
+            striped.remove(value);
+            striped.put(value);
+            return striped.getPutStatus() == ConcurrentHashTable.PUT_OK;
+        }
+        return striped.contains(value);
+    }
+
+    private boolean locked(Cursor cursor) {
+        int position = cursor.next();
+        Integer value = values[position];
+        synchronized (locked) {
+            if ((position & WRITE_MASK) == 0) {
+                locked.remove(value);
+                locked.put(value);
+                return locked.getPutStatus() == HashTable.PUT_OK;
+            }
+            return locked.contains(value);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean striped1(Cursor cursor) {
+        return striped(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean striped4(Cursor cursor) {
+        return striped(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean striped16(Cursor cursor) {
+        return striped(cursor);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean locked1(Cursor cursor) {
+        return locked(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean locked4(Cursor cursor) {
+        return locked(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean locked16(Cursor cursor) {
+        return locked(cursor);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in a growing table filled with keys whose hash codes have poor low bits:
+ * sequential integers, integers that are multiples of 1024, sequential longs above 2^32
+ * and strings with a common prefix. The probe length statistics are reported as secondary
+ * results of containsHit, JMH sums them over the measurement iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashClusteringBenchmark {
+
+    private static final int COUNT = 1 << 16;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"SEQUENTIAL_INT", "STRIDED_INT", "SEQUENTIAL_LONG", "STRING"})
+    private String keys;
+
+    private HashTable<Object> table;
+    private Object[] present;
+    private Object[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillTable() {
+        this.table = new HashTable<>(0, 0.75);
+        for (int i = 0; i < COUNT; i++) {
+            this.table.put(key(i));
+        }
+        this.present = new Object[LOOKUPS];
+        this.absent = new Object[LOOKUPS];
+        int stride = COUNT / LOOKUPS;
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = key(i * stride);
+            this.absent[i] = key(COUNT + i * stride);
+        }
+    }
+
+    private Object key(int i) {
+        switch (keys) {
+            case "STRIDED_INT":
+                return i << 10;
+            case "SEQUENTIAL_LONG":
+                return (1L << 32) + i;
+            case "STRING":
+                return "session-" + i;
+            default:
+                return i;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ProbeLength {
+        public double averageProbeLength;
+        public double maxProbeLength;
+
+        @TearDown(Level.Iteration)
+        public void measure(HashClusteringBenchmark benchmark) {
+            this.averageProbeLength = benchmark.table.getAverageProbeLength();
+            this.maxProbeLength = benchmark.table.getMaxProbeLength();
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit(ProbeLength probeLength) {
+        return table.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return table.contains(absent[next()]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
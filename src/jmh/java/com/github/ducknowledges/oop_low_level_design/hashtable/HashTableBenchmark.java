@@ -0,0 +1,98 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashTableBenchmark {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"0.5", "0.75", "0.9"})
+    private double loadFactor;
+
+    private HashTable<Integer> table;
+    private Integer[] present;
+    private Integer[] absent;
+    private Integer[] growingKeys;
+    private int cursor;
+
+    @Setup
+    public void fillTable() {
+        int count = (int) (CAPACITY * loadFactor);
+        Random random = new Random(42);
+        this.growingKeys = new Integer[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            this.growingKeys[i] = random.nextInt();
+        }
+        this.table = new HashTable<>(CAPACITY);
+        this.present = new Integer[LOOKUPS];
+        this.absent = new Integer[LOOKUPS];
+
+        Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt() & ~1;
+            this.table.put(keys[i]);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = keys[random.nextInt(count)];
+            this.absent[i] = random.nextInt() | 1;
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return table.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return table.contains(absent[next()]);
+    }
+
+    /**
+     * Removes a present element and puts it back, so the load factor stays fixed.
+     */
+    @Benchmark
+    public int removeAndPut() {
+        Integer element = present[next()];
+        table.remove(element);
+        table.put(element);
+        return table.getPutStatus();
+    }
+
+    /**
+     * Puts {@code CAPACITY} elements into a growing table that starts with the default capacity,
+     * the load factor parameter is used as the max load factor that triggers rehashing.
+     */
+    @Benchmark
+    public HashTable<Integer> putGrowing() {
+        HashTable<Integer> growing = new HashTable<>(0, loadFactor);
+        for (Integer key : growingKeys) {
+            growing.put(key);
+        }
+        return growing;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Linear probing against Robin Hood hashing in a table of fixed capacity at 0.5, 0.75 and 0.9 load.
+ * The probe length statistics of the table are reported as secondary results of containsHit,
+ * JMH sums them over the measurement iterations, so divide them by the iteration count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RobinHoodBenchmark {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"0.5", "0.75", "0.9"})
+    private double loadFactor;
+
+    @Param({"false", "true"})
+    private boolean robinHood;
+
+    private HashTable<Integer> table;
+    private Integer[] present;
+    private Integer[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillTable() {
+        int count = (int) (CAPACITY * loadFactor);
+        Random random = new Random(42);
+        this.table = new HashTable<>(CAPACITY, 1.0, robinHood);
+        this.present = new Integer[LOOKUPS];
+        this.absent = new Integer[LOOKUPS];
+
+        Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt() & ~1;
+            this.table.put(keys[i]);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = keys[random.nextInt(count)];
+            this.absent[i] = random.nextInt() | 1;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ProbeLength {
+        public double averageProbeLength;
+        public double probeLengthVariance;
+        public double maxProbeLength;
+
+        @TearDown(Level.Iteration)
+        public void measure(RobinHoodBenchmark benchmark) {
+            this.averageProbeLength = benchmark.table.getAverageProbeLength();
+            this.probeLengthVariance = benchmark.table.getProbeLengthVariance();
+            this.maxProbeLength = benchmark.table.getMaxProbeLength();
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit(ProbeLength probeLength) {
+        return table.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return table.contains(absent[next()]);
+    }
+
+    /**
+     * Removes a present element and puts it back, so the load factor stays fixed.
+     */
+    @Benchmark
+    public int removeAndPut() {
+        Integer element = present[next()];
+        table.tryRemove(element);
+        return table.tryPut(element);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
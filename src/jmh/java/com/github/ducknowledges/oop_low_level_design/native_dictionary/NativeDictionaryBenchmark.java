@@ -0,0 +1,75 @@
+package com.github.ducknowledges.oop_low_level_design.native_dictionary;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeDictionaryBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1024", "16384", "262144"})
+    private int capacity;
+
+    @Param({"0.5", "0.75"})
+    private double loadFactor;
+
+    private NativeDictionary<Integer> dictionary;
+    private String[] present;
+    private String[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillDictionary() {
+        int count = (int) (capacity * loadFactor);
+        Random random = new Random(42);
+        this.dictionary = new NativeDictionary<>(capacity);
+        this.present = new String[LOOKUPS];
+        this.absent = new String[LOOKUPS];
+
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "session-" + i;
+            this.dictionary.put(keys[i], i);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = keys[random.nextInt(count)];
+            this.absent[i] = "missing-" + i;
+        }
+    }
+
+    @Benchmark
+    public Integer getHit() {
+        return dictionary.get(present[next()]);
+    }
+
+    /**
+     * A miss stops at the first free slot, so its latency depends on the load factor
+     * and must stay flat as the capacity grows.
+     */
+    @Benchmark
+    public Integer getMiss() {
+        return dictionary.get(absent[next()]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
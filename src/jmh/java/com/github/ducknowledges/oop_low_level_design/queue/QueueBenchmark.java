@@ -0,0 +1,66 @@
+package com.github.ducknowledges.oop_low_level_design.queue;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({"16", "1024"})
+    private int depth;
+
+    private Queue<Integer> queue;
+    private ArrayQueue<Integer> arrayQueue;
+    private Integer element;
+
+    @Setup
+    public void createQueue() {
+        this.queue = new Queue<>(depth);
+        this.arrayQueue = new ArrayQueue<>(depth);
+        this.element = 42;
+    }
+
+    /**
+     * Fills the LinkedList backed queue to {@code depth} elements and drains it back to empty.
+     */
+    @Benchmark
+    public void addAndPop(Blackhole blackhole) {
+        for (int i = 0; i < depth; i++) {
+            queue.add(element);
+        }
+        for (int i = 0; i < depth; i++) {
+            blackhole.consume(queue.peek());
+            queue.pop();
+        }
+    }
+
+    /**
+     * Fills the ring buffer backed queue to {@code depth} elements and drains it back to empty.
+     */
+    @Benchmark
+    public void addAndPopArray(Blackhole blackhole) {
+        for (int i = 0; i < depth; i++) {
+            arrayQueue.add(element);
+        }
+        for (int i = 0; i < depth; i++) {
+            blackhole.consume(arrayQueue.peek());
+            arrayQueue.pop();
+        }
+    }
+}
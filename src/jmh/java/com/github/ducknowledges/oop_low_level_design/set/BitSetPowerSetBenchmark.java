@@ -0,0 +1,101 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Set algebra of two sets of feature ids from 0 to 2^20 that share half of their elements,
+ * the hash PowerSet against the BitSetPowerSet at 1% and 10% density of the domain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitSetPowerSetBenchmark {
+
+    private static final int DOMAIN = 1 << 20;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"0.01", "0.1"})
+    private double density;
+
+    @Param({"HASH", "BITSET"})
+    private String backing;
+
+    private PowerSet<Integer> set;
+    private PowerSet<Integer> other;
+    private Integer[] lookups;
+    private int cursor;
+
+    @Setup
+    public void fillSets() {
+        int count = (int) (DOMAIN * density);
+        Random random = new Random(42);
+        this.set = createSet();
+        this.other = createSet();
+        for (int i = 0; i < count; i++) {
+            int id = random.nextInt(DOMAIN);
+            this.set.put(id);
+            this.other.put(i % 2 == 0 ? id : random.nextInt(DOMAIN));
+        }
+        this.lookups = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.lookups[i] = random.nextInt(DOMAIN);
+        }
+    }
+
+    private PowerSet<Integer> createSet() {
+        if ("BITSET".equals(backing)) {
+            return new BitSetPowerSet(DOMAIN);
+        }
+        return new PowerSet<>(0, 0.75);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return set.contains(lookups[next()]);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> intersection() {
+        return set.intersection(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> union() {
+        return set.union(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> difference() {
+        return set.difference(other);
+    }
+
+    @Benchmark
+    public boolean isSubset() {
+        return set.isSubset(set.intersection(other));
+    }
+
+    @Benchmark
+    public int size() {
+        return set.intersection(other).size();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A working set that is intersected with a mask of half of its elements
+ * and then gets the other half back, so it is the same set after every invocation.
+ * The in-place commands reuse the slots of the working set, the queries allocate two sets;
+ * run with -prof gc to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InPlacePowerSetBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean robinHood;
+
+    private PowerSet<Integer> working;
+    private PowerSet<Integer> mask;
+    private PowerSet<Integer> rest;
+
+    @Setup
+    public void fillSets() {
+        Random random = new Random(42);
+        this.working = new PowerSet<>(0, 0.75, robinHood);
+        this.mask = new PowerSet<>(0, 0.75, robinHood);
+        this.rest = new PowerSet<>(0, 0.75, robinHood);
+        for (int i = 0; i < size; i++) {
+            int element = random.nextInt();
+            this.working.put(element);
+            if (i % 2 == 0) {
+                this.mask.put(element);
+            } else {
+                this.rest.put(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public PowerSet<Integer> inPlace() {
+        working.retainAll(mask);
+        working.addAll(rest);
+        return working;
+    }
+
+    @Benchmark
+    public PowerSet<Integer> allocating() {
+        working = working.intersection(mask).union(rest);
+        return working;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scaling of the fork/join set algebra of two sets that share half of their elements
+ * with the number of threads in the pool, the pool of a single thread is the baseline
+ * that the others are compared with at every size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ParallelPowerSetBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    private PowerSet<Integer> set;
+    private PowerSet<Integer> other;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void fillSets() {
+        Random random = new Random(42);
+        this.set = new PowerSet<>(0, 0.75);
+        this.other = new PowerSet<>(0, 0.75);
+        for (int i = 0; i < size; i++) {
+            int element = random.nextInt();
+            this.set.put(element);
+            this.other.put(i % 2 == 0 ? element : random.nextInt());
+        }
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public PowerSet<Integer> intersection() {
+        return set.intersection(other, pool);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> union() {
+        return set.union(other, pool);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> difference() {
+        return set.difference(other, pool);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PowerSetBenchmark {
+
+    private static final int CAPACITY = 1 << 14;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"0.5", "0.75", "0.9"})
+    private double loadFactor;
+
+    private PowerSet<Integer> set;
+    private PowerSet<Integer> other;
+    private Integer[] present;
+    private Integer[] absent;
+    private int cursor;
+
+    @Setup
+    public void fillSets() {
+        int count = (int) (CAPACITY * loadFactor);
+        Random random = new Random(42);
+        this.set = new PowerSet<>(CAPACITY);
+        this.other = new PowerSet<>(CAPACITY);
+        this.present = new Integer[LOOKUPS];
+        this.absent = new Integer[LOOKUPS];
+
+        Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt() & ~1;
+            this.set.put(keys[i]);
+            this.other.put(i % 2 == 0 ? keys[i] : random.nextInt() & ~1);
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.present[i] = keys[random.nextInt(count)];
+            this.absent[i] = random.nextInt() | 1;
+        }
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return set.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return set.contains(absent[next()]);
+    }
+
+    /**
+     * Removes a present element and puts it back, so the load factor stays fixed.
+     */
+    @Benchmark
+    public int removeAndPut() {
+        Integer element = present[next()];
+        set.remove(element);
+        set.put(element);
+        return set.getPutStatus();
+    }
+
+    @Benchmark
+    public PowerSet<Integer> intersection() {
+        return set.intersection(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> union() {
+        return set.union(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> difference() {
+        return set.difference(other);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the set algebra of two sets that share half of their elements,
+ * for sets of a fixed capacity filled up to 0.75 and for growing sets.
+ * The results are presized, so union() fills a table at 0.75 load whatever the receiver is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PowerSetUnionBenchmark {
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"FIXED", "GROWING"})
+    private String receiver;
+
+    private PowerSet<Integer> set;
+    private PowerSet<Integer> other;
+
+    @Setup
+    public void fillSets() {
+        Random random = new Random(42);
+        this.set = createSet();
+        this.other = createSet();
+        for (int i = 0; i < size; i++) {
+            int element = random.nextInt();
+            this.set.put(element);
+            this.other.put(i % 2 == 0 ? element : random.nextInt());
+        }
+    }
+
+    private PowerSet<Integer> createSet() {
+        if ("FIXED".equals(receiver)) {
+            return new PowerSet<>((int) Math.ceil(size / LOAD_FACTOR));
+        }
+        return new PowerSet<>(0, LOAD_FACTOR);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> union() {
+        return set.union(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> intersection() {
+        return set.intersection(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> difference() {
+        return set.difference(other);
+    }
+}
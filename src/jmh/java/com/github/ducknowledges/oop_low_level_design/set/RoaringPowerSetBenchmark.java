@@ -0,0 +1,112 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Set algebra of two sets of sparse 32-bit ids that share half of their elements,
+ * the hash PowerSet against the RoaringPowerSet. RANDOM ids are spread over 2^28 integers,
+ * CLUSTERED ids come in ranges of consecutive integers, as ids allocated in batches do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoaringPowerSetBenchmark {
+
+    private static final int ID_RANGE = 1 << 28;
+    private static final int CLUSTER = 256;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"RANDOM", "CLUSTERED"})
+    private String ids;
+
+    @Param({"HASH", "ROARING"})
+    private String backing;
+
+    private PowerSet<Integer> set;
+    private PowerSet<Integer> other;
+    private Integer[] lookups;
+    private int cursor;
+
+    @Setup
+    public void fillSets() {
+        Random random = new Random(42);
+        this.set = createSet();
+        this.other = createSet();
+        int id = 0;
+        int sharedId = 0;
+        for (int i = 0; i < size; i++) {
+            if ("CLUSTERED".equals(ids)) {
+                id = i % CLUSTER == 0 ? random.nextInt(ID_RANGE) : id + 1;
+                sharedId = i % (2 * CLUSTER) < CLUSTER ? id : sharedId + 1;
+            } else {
+                id = random.nextInt(ID_RANGE);
+                sharedId = i % 2 == 0 ? id : random.nextInt(ID_RANGE);
+            }
+            this.set.put(id);
+            this.other.put(sharedId);
+        }
+        if (this.set instanceof RoaringPowerSet) {
+            ((RoaringPowerSet) this.set).runOptimize();
+            ((RoaringPowerSet) this.other).runOptimize();
+        }
+        this.lookups = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.lookups[i] = random.nextInt(ID_RANGE);
+        }
+    }
+
+    private PowerSet<Integer> createSet() {
+        if ("ROARING".equals(backing)) {
+            return new RoaringPowerSet();
+        }
+        return new PowerSet<>(0, 0.75);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return set.contains(lookups[next()]);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> intersection() {
+        return set.intersection(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> union() {
+        return set.union(other);
+    }
+
+    @Benchmark
+    public PowerSet<Integer> difference() {
+        return set.difference(other);
+    }
+
+    @Benchmark
+    public boolean isSubset() {
+        return set.isSubset(set.intersection(other));
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.ducknowledges.oop_low_level_design.stack;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedStackBenchmark {
+
+    @Param({"16", "1024"})
+    private int depth;
+
+    private BoundedStack<Integer> stack;
+    private Integer element;
+
+    @Setup
+    public void createStack() {
+        this.stack = new BoundedStack<>(depth);
+        this.element = 42;
+    }
+
+    /**
+     * Pushes the stack to {@code depth} elements and pops it back to empty.
+     */
+    @Benchmark
+    public void pushAndPop(Blackhole blackhole) {
+        for (int i = 0; i < depth; i++) {
+            stack.push(element);
+        }
+        for (int i = 0; i < depth; i++) {
+            blackhole.consume(stack.peek());
+            stack.pop();
+        }
+    }
+}
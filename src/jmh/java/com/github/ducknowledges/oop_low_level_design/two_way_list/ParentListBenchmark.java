@@ -0,0 +1,72 @@
+package com.github.ducknowledges.oop_low_level_design.two_way_list;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParentListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private TwoWayList<Integer> list;
+    private Integer last;
+
+    @Setup
+    public void fillList() {
+        this.list = new TwoWayList<>();
+        for (int i = 0; i < size; i++) {
+            this.list.addTail(i);
+        }
+        this.last = size - 1;
+    }
+
+    /**
+     * Walks the cursor from the first element to the last one.
+     */
+    @Benchmark
+    public void walkRight(Blackhole blackhole) {
+        list.head();
+        while (!list.isTail()) {
+            blackhole.consume(list.get());
+            list.right();
+        }
+        blackhole.consume(list.get());
+    }
+
+    /**
+     * Walks the cursor from the last element to the first one.
+     */
+    @Benchmark
+    public void walkLeft(Blackhole blackhole) {
+        list.tail();
+        while (!list.isHead()) {
+            blackhole.consume(list.get());
+            list.left();
+        }
+        blackhole.consume(list.get());
+    }
+
+    @Benchmark
+    public int findLast() {
+        list.head();
+        list.find(last);
+        return list.getFindStatus();
+    }
+}
@@ -1,20 +1,93 @@
 package com.github.ducknowledges.oop_low_level_design.bloomfilter;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 public class BloomFilter<T> {
 
+    /* Status: union() was not invoked */
+    public static final int UNION_NIL = 0;
+    /* Status: union() was invoked successfully */
+    public static final int UNION_OK = 1;
+    /* Status: union() was invoked with a filter of another length, number of hash functions or seed */
+    public static final int UNION_ERR = 2;
+
+    /* Status: intersection() was not invoked */
+    public static final int INTERSECTION_NIL = 0;
+    /* Status: intersection() was invoked successfully */
+    public static final int INTERSECTION_OK = 1;
+    /* Status: intersection() was invoked with a filter of another length, number of hash functions or seed */
+    public static final int INTERSECTION_ERR = 2;
+
     private static final long BIT = 1L;
+    static final int DEFAULT_HASH_COUNT = 2;
+    static final long DEFAULT_SEED = 0L;
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final int WRITE_BUFFER_WORDS = 8192;
+    private static final int MAX_WORD_COUNT = Integer.MAX_VALUE - 8;
 
     private final int filterLen;
-    private long binaryFilter;
+    private final int hashCount;
+    private final long seed;
+    private final long[] binaryFilter;
+    private int setBitCount;
+
+    private int unionStatus;
+    private int intersectionStatus;
 
     /**
      * @Constructor
-     * Creates a new bloom filter with initial length
+     * Creates a new bloom filter with initial length in bits that uses two hash functions
      * @Post-condition: a new empty bloom filter with initial length was created
      */
     public BloomFilter(int filterLen) {
-        this.filterLen = filterLen;
-        this.binaryFilter = 0;
+        this(filterLen, DEFAULT_HASH_COUNT, DEFAULT_SEED);
+    }
+
+    /**
+     * @Constructor
+     * Creates a new bloom filter sized for the expected number of values,
+     * so that its false positive rate does not exceed the specified one
+     * until the expected number of values is added.
+     * The length is -n * ln(p) / ln(2)^2 bits and the number of hash functions is
+     * length / n * ln(2), the values that minimize the false positive rate.
+     * @Post-condition: a new empty bloom filter of optimal length was created
+     *
+     * @param expectedInsertions the number of values expected to be added, at least 1
+     * @param falsePositiveRate the target false positive rate in (0, 1), 0.01 is used otherwise
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this(expectedInsertions, falsePositiveRate, DEFAULT_SEED);
+    }
+
+    /**
+     * @Constructor
+     * Creates a new bloom filter sized for the expected number of values
+     * like {@link #BloomFilter(int, double)}, whose hash functions are derived from the seed.
+     * Filters with different seeds set different bits for the same value,
+     * so their false positives are independent.
+     * @Post-condition: a new empty bloom filter of optimal length was created
+     *
+     * @param expectedInsertions the number of values expected to be added, at least 1
+     * @param falsePositiveRate the target false positive rate in (0, 1), 0.01 is used otherwise
+     * @param seed the seed mixed into the hash of every value
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate, long seed) {
+        this(optimalFilterLen(expectedInsertions, falsePositiveRate),
+                optimalHashCount(expectedInsertions, falsePositiveRate), seed);
+    }
+
+    private BloomFilter(int filterLen, int hashCount, long seed) {
+        this.filterLen = Math.max(filterLen, 1);
+        this.hashCount = Math.max(hashCount, 1);
+        this.seed = seed;
+        this.binaryFilter = new long[wordCount(this.filterLen, Long.SIZE)];
+        this.setBitCount = 0;
+        this.unionStatus = UNION_NIL;
+        this.intersectionStatus = INTERSECTION_NIL;
     }
 
     /**
@@ -26,8 +99,18 @@ public class BloomFilter<T> {
      * @param value the value to be added into the bloom filter.
      */
     public void add(T value) {
-        binaryFilter |= BIT << hashCode1(value);
-        binaryFilter |= BIT << hashCode2(value);
+        long hash = mix(value.hashCode(), seed);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = bitIndex(hash1, hash2, i, filterLen);
+            long word = binaryFilter[bitIndex >>> 6];
+            long mask = BIT << bitIndex;
+            if ((word & mask) == 0) {
+                binaryFilter[bitIndex >>> 6] = word | mask;
+                setBitCount++;
+            }
+        }
     }
 
     /**
@@ -39,18 +122,228 @@ public class BloomFilter<T> {
      * @return {@code true} if the element is present in the bloom filter, {@code false} otherwise
      */
     public boolean hasValue(T value) {
-        boolean isSetFilterBit1 = (binaryFilter >> hashCode1(value) & BIT) == BIT;
-        boolean isSetFilterBit2 = (binaryFilter >> hashCode2(value) & BIT) == BIT;
-        return isSetFilterBit1 && isSetFilterBit2;
+        long hash = mix(value.hashCode(), seed);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = bitIndex(hash1, hash2, i, filterLen);
+            if ((binaryFilter[bitIndex >>> 6] & (BIT << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Query
+     * Writes the bloom filter to a file in the versioned binary format:
+     * a 32-byte header with the length, the number of hash functions and the hash seed
+     * followed by the raw bit words. The file can be loaded with {@link MappedBloomFilter}.
+     *
+     * @param path the file to be created or overwritten
+     * @throws IOException if the file can not be written
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_WORDS * Long.BYTES);
+            BloomFilterFormat.writeHeader(buffer, filterLen, hashCount, seed, binaryFilter.length);
+            for (long word : binaryFilter) {
+                if (!buffer.hasRemaining()) {
+                    writeFully(channel, buffer);
+                }
+                buffer.putLong(word);
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * @Query
+     * Returns a new bloom filter that has the bits of both this and the specified filter set,
+     * it is equal to the filter that all values of both filters were added to
+     *
+     * @Pre-condition: the filters have the same length, number of hash functions and seed
+     *
+     * @param filter the filter to be combined with this filter
+     * @return the union of the filters or {@code null} if the filters are not compatible
+     */
+    public BloomFilter<T> union(BloomFilter<T> filter) {
+        if (!isCompatible(filter)) {
+            this.unionStatus = UNION_ERR;
+            return null;
+        }
+        BloomFilter<T> result = new BloomFilter<>(filterLen, hashCount, seed);
+        for (int i = 0; i < binaryFilter.length; i++) {
+            result.binaryFilter[i] = binaryFilter[i] | filter.binaryFilter[i];
+            result.setBitCount += Long.bitCount(result.binaryFilter[i]);
+        }
+        this.unionStatus = UNION_OK;
+        return result;
     }
 
+    /**
+     * @Query
+     * Returns a new bloom filter that has only the bits set in both this and the specified filter.
+     * It has value of both filters, but may answer {@code true} more often
+     * than the filter built from the common values only.
+     *
+     * @Pre-condition: the filters have the same length, number of hash functions and seed
+     *
+     * @param filter the filter to be intersected with this filter
+     * @return the intersection of the filters or {@code null} if the filters are not compatible
+     */
+    public BloomFilter<T> intersection(BloomFilter<T> filter) {
+        if (!isCompatible(filter)) {
+            this.intersectionStatus = INTERSECTION_ERR;
+            return null;
+        }
+        BloomFilter<T> result = new BloomFilter<>(filterLen, hashCount, seed);
+        for (int i = 0; i < binaryFilter.length; i++) {
+            result.binaryFilter[i] = binaryFilter[i] & filter.binaryFilter[i];
+            result.setBitCount += Long.bitCount(result.binaryFilter[i]);
+        }
+        this.intersectionStatus = INTERSECTION_OK;
+        return result;
+    }
+
+    /**
+     * @Query
+     * Estimates the number of distinct values added to the bloom filter
+     * from the fraction of set bits: -length / k * ln(1 - setBits / length).
+     * The number of common values of two filters is estimated better as
+     * a.approximateCount() + b.approximateCount() - a.union(b).approximateCount()
+     * than by the count of their intersection.
+     *
+     * @return the approximate number of distinct values,
+     *          {@link Long#MAX_VALUE} if all bits are set and the filter is saturated
+     */
+    public long approximateCount() {
+        double unsetFraction = 1 - (double) setBitCount / filterLen;
+        return Math.round(-(double) filterLen / hashCount * Math.log(unsetFraction));
+    }
+
+    /**
+     * @Query
+     * Returns the probability that hasValue() returns {@code true} for a value
+     * that was never added, estimated from the fraction of set bits
+     *
+     * @return the expected false positive rate of the bloom filter
+     */
+    public double expectedFpp() {
+        return Math.pow((double) setBitCount / filterLen, hashCount);
+    }
+
+    /**
+     * @Query
+     * Returns the length of the bloom filter
+     *
+     * @return the number of bits in the bloom filter
+     */
+    public int getFilterLen() {
+        return filterLen;
+    }
+
+    /**
+     * @Query
+     * Returns the number of hash functions the bloom filter sets for each value
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @Query
+     * Returns the seed the hash functions of the bloom filter are derived from
+     *
+     * @return the hash seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @Query
+     * Returns the status of union() query
+     *
+     * @return one of the following statuses:
+     *          {@link #UNION_NIL} if union() was not invoked
+     *          {@link #UNION_OK}  if last union() returned correct result
+     *          {@link #UNION_ERR} if union() has error, the filters are not compatible
+     */
+    public int getUnionStatus() {
+        return this.unionStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of intersection() query
+     *
+     * @return one of the following statuses:
+     *          {@link #INTERSECTION_NIL} if intersection() was not invoked
+     *          {@link #INTERSECTION_OK}  if last intersection() returned correct result
+     *          {@link #INTERSECTION_ERR} if intersection() has error, the filters are not compatible
+     */
+    public int getIntersectionStatus() {
+        return this.intersectionStatus;
+    }
+
+    private boolean isCompatible(BloomFilter<T> filter) {
+        return filter != null && filter.filterLen == filterLen && filter.hashCount == hashCount
+                && filter.seed == seed;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    static int bitIndex(int hash1, int hash2, int i, int filterLen) {
+        int combinedHash = hash1 + i * hash2;
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % filterLen;
+    }
+
+    static int wordCount(int filterLen, int valuesPerWord) {
+        long wordCount = ((long) filterLen + valuesPerWord - 1) / valuesPerWord;
+        if (wordCount > MAX_WORD_COUNT) {
+            throw new IllegalArgumentException("Bloom filter length " + filterLen + " does not fit in an array");
+        }
+        return (int) wordCount;
+    }
+
+    static long mix(int hashCode) {
+        return mix(hashCode, DEFAULT_SEED);
+    }
+
+    static long mix(int hashCode, long seed) {
+        long hash = hashCode ^ seed;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
 
-    private int hashCode1(T value) {
-        return Math.abs(value.hashCode() % filterLen);
+    static int optimalFilterLen(int expectedInsertions, double falsePositiveRate) {
+        double rate = falsePositiveRate > 0 && falsePositiveRate < 1
+                ? falsePositiveRate
+                : DEFAULT_FALSE_POSITIVE_RATE;
+        double length = -Math.max(expectedInsertions, 1) * Math.log(rate) / (Math.log(2) * Math.log(2));
+        return (int) Math.min(Math.ceil(length), Integer.MAX_VALUE);
     }
 
-    private int hashCode2(T value) {
-        return Math.abs(value.hashCode() % filterLen);
+    static int optimalHashCount(int expectedInsertions, double falsePositiveRate) {
+        int length = optimalFilterLen(expectedInsertions, falsePositiveRate);
+        return (int) Math.round((double) length / Math.max(expectedInsertions, 1) * Math.log(2));
     }
 
 }
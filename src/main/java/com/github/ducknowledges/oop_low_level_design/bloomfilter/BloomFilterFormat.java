@@ -0,0 +1,57 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary layout of a bloom filter file, all numbers are big-endian:
+ *
+ * <pre>
+ *  offset  size  field
+ *       0     4  magic "BLOM"
+ *       4     4  format version
+ *       8     4  filter length in bits
+ *      12     4  number of hash functions
+ *      16     8  hash seed
+ *      24     4  number of 64-bit words
+ *      28     4  reserved, 0
+ *      32  8 * n bit words, bit i is bit (i % 64) of word (i / 64)
+ * </pre>
+ *
+ * The header is 32 bytes long, so every word is 8-byte aligned in a mapped file.
+ */
+final class BloomFilterFormat {
+
+    static final int MAGIC = 0x424C4F4D;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    private BloomFilterFormat() {}
+
+    static void writeHeader(ByteBuffer buffer, int filterLen, int hashCount, long seed, int wordCount) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(filterLen);
+        buffer.putInt(hashCount);
+        buffer.putLong(seed);
+        buffer.putInt(wordCount);
+        buffer.putInt(0);
+    }
+
+    static void checkHeader(ByteBuffer buffer, long fileSize) throws IOException {
+        if (fileSize < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a bloom filter file");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported bloom filter format version " + buffer.getInt(4));
+        }
+        int filterLen = buffer.getInt(8);
+        int hashCount = buffer.getInt(12);
+        int wordCount = buffer.getInt(24);
+        if (filterLen < 1 || hashCount < 1
+                || wordCount != ((long) filterLen + Long.SIZE - 1) / Long.SIZE
+                || fileSize != HEADER_BYTES + (long) wordCount * Long.BYTES) {
+            throw new IOException("Corrupted bloom filter header");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ConcurrentBloomFilter<T> {
+
+    private static final long BIT = 1L;
+
+    private final int filterLen;
+    private final int hashCount;
+    private final AtomicLongArray binaryFilter;
+
+    /**
+     * @Constructor
+     * Creates a new thread safe bloom filter with initial length in bits that uses two hash functions
+     * @Post-condition: a new empty bloom filter with initial length was created
+     */
+    public ConcurrentBloomFilter(int filterLen) {
+        this(filterLen, BloomFilter.DEFAULT_HASH_COUNT);
+    }
+
+    /**
+     * @Constructor
+     * Creates a new thread safe bloom filter sized for the expected number of values
+     * in the same way as {@link BloomFilter#BloomFilter(int, double)}
+     * @Post-condition: a new empty bloom filter of optimal length was created
+     *
+     * @param expectedInsertions the number of values expected to be added, at least 1
+     * @param falsePositiveRate the target false positive rate in (0, 1), 0.01 is used otherwise
+     */
+    public ConcurrentBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this(BloomFilter.optimalFilterLen(expectedInsertions, falsePositiveRate),
+                BloomFilter.optimalHashCount(expectedInsertions, falsePositiveRate));
+    }
+
+    private ConcurrentBloomFilter(int filterLen, int hashCount) {
+        this.filterLen = Math.max(filterLen, 1);
+        this.hashCount = Math.max(hashCount, 1);
+        this.binaryFilter = new AtomicLongArray(BloomFilter.wordCount(this.filterLen, Long.SIZE));
+    }
+
+    /**
+     * @Command
+     * Add value to the bloom filter, may be invoked by many threads at once.
+     * Every bit is set with a compare-and-set of its word, no locks are taken.
+     *
+     * @Post-condition: a new value has been added into the bloom filter
+     *                  and is visible to hasValue() invoked after add() returns
+     *
+     * @param value the value to be added into the bloom filter.
+     */
+    public void add(T value) {
+        long hash = BloomFilter.mix(value.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = BloomFilter.bitIndex(hash1, hash2, i, filterLen);
+            int wordIndex = bitIndex >>> 6;
+            long mask = BIT << bitIndex;
+            long word = binaryFilter.get(wordIndex);
+            while ((word & mask) == 0) {
+                long witness = binaryFilter.compareAndExchange(wordIndex, word, word | mask);
+                if (witness == word) {
+                    break;
+                }
+                word = witness;
+            }
+        }
+    }
+
+    /**
+     * @Query
+     * Checks if the specified value is present in the bloom filter
+     * False positive result is allowed
+     *
+     * @param value the value to check for existence in this bloom filter
+     * @return {@code true} if the element is present in the bloom filter, {@code false} otherwise
+     */
+    public boolean hasValue(T value) {
+        long hash = BloomFilter.mix(value.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = BloomFilter.bitIndex(hash1, hash2, i, filterLen);
+            if ((binaryFilter.get(bitIndex >>> 6) & (BIT << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Query
+     * Returns the probability that hasValue() returns {@code true} for a value
+     * that was never added, estimated from the fraction of set bits.
+     * The bits are counted on every call, so the query costs O(filterLen / 64).
+     *
+     * @return the expected false positive rate of the bloom filter
+     */
+    public double expectedFpp() {
+        long setBitCount = 0;
+        for (int i = 0; i < binaryFilter.length(); i++) {
+            setBitCount += Long.bitCount(binaryFilter.get(i));
+        }
+        return Math.pow((double) setBitCount / filterLen, hashCount);
+    }
+
+    /**
+     * @Query
+     * Returns the length of the bloom filter
+     *
+     * @return the number of bits in the bloom filter
+     */
+    public int getFilterLen() {
+        return filterLen;
+    }
+
+    /**
+     * @Query
+     * Returns the number of hash functions the bloom filter sets for each value
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+}
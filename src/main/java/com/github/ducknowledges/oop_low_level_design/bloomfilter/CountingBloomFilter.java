@@ -0,0 +1,208 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+public class CountingBloomFilter<T> {
+
+    /* Status: remove() was not invoked */
+    public static final int REMOVE_NIL = 0;
+    /* Status: remove() was invoked successfully */
+    public static final int REMOVE_OK = 1;
+    /* Status: remove() was invoked when the value is not present in the filter */
+    public static final int REMOVE_ERR = 2;
+
+    /* The largest value of a 4-bit counter, a counter that reached it is never changed again */
+    public static final int MAX_COUNTER = 15;
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final int filterLen;
+    private final int hashCount;
+    private final long[] counters;
+    private int nonZeroCount;
+    private int saturatedCount;
+
+    private int removeStatus;
+
+    /**
+     * @Constructor
+     * Creates a new counting bloom filter with initial number of counters that uses two hash functions
+     * @Post-condition: a new empty counting bloom filter with initial length was created
+     */
+    public CountingBloomFilter(int filterLen) {
+        this(filterLen, BloomFilter.DEFAULT_HASH_COUNT);
+    }
+
+    /**
+     * @Constructor
+     * Creates a new counting bloom filter sized for the expected number of values
+     * in the same way as {@link BloomFilter#BloomFilter(int, double)},
+     * it takes 4 times more memory than the bloom filter of the same length
+     * @Post-condition: a new empty counting bloom filter of optimal length was created
+     *
+     * @param expectedInsertions the number of values expected to be added, at least 1
+     * @param falsePositiveRate the target false positive rate in (0, 1), 0.01 is used otherwise
+     */
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this(BloomFilter.optimalFilterLen(expectedInsertions, falsePositiveRate),
+                BloomFilter.optimalHashCount(expectedInsertions, falsePositiveRate));
+    }
+
+    private CountingBloomFilter(int filterLen, int hashCount) {
+        this.filterLen = Math.max(filterLen, 1);
+        this.hashCount = Math.max(hashCount, 1);
+        this.counters = new long[BloomFilter.wordCount(this.filterLen, COUNTERS_PER_WORD)];
+        this.nonZeroCount = 0;
+        this.saturatedCount = 0;
+        this.removeStatus = REMOVE_NIL;
+    }
+
+    /**
+     * @Command
+     * Add value to the counting bloom filter by incrementing its 4-bit counters.
+     * A counter that reaches {@link #MAX_COUNTER} saturates: it is not incremented
+     * any more and never decremented, so remove() can not cause false negatives,
+     * but the values sharing the counter keep hasValue() {@code true}.
+     *
+     * @Post-condition: a new value has been added into the counting bloom filter
+     *
+     * @param value the value to be added into the counting bloom filter.
+     */
+    public void add(T value) {
+        long hash = BloomFilter.mix(value.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int counterIndex = BloomFilter.bitIndex(hash1, hash2, i, filterLen);
+            int counter = counter(counterIndex);
+            if (counter == MAX_COUNTER) {
+                continue;
+            }
+            counters[counterIndex / COUNTERS_PER_WORD] += 1L << shift(counterIndex);
+            if (counter == 0) {
+                nonZeroCount++;
+            }
+            if (counter + 1 == MAX_COUNTER) {
+                saturatedCount++;
+            }
+        }
+    }
+
+    /**
+     * @Command
+     * Removes value from the counting bloom filter by decrementing its counters,
+     * saturated counters stay unchanged.
+     * Removing a value that was never added, but is a false positive,
+     * decrements counters of other values and can make them false negatives.
+     *
+     * @Pre-condition: the value is present in the counting bloom filter
+     * @Post-condition: the value has been removed from the counting bloom filter
+     *
+     * @param value the value to be removed from the counting bloom filter
+     */
+    public void remove(T value) {
+        if (!hasValue(value)) {
+            this.removeStatus = REMOVE_ERR;
+            return;
+        }
+        long hash = BloomFilter.mix(value.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int counterIndex = BloomFilter.bitIndex(hash1, hash2, i, filterLen);
+            int counter = counter(counterIndex);
+            if (counter == MAX_COUNTER || counter == 0) {
+                continue;
+            }
+            counters[counterIndex / COUNTERS_PER_WORD] -= 1L << shift(counterIndex);
+            if (counter == 1) {
+                nonZeroCount--;
+            }
+        }
+        this.removeStatus = REMOVE_OK;
+    }
+
+    /**
+     * @Query
+     * Checks if the specified value is present in the counting bloom filter
+     * False positive result is allowed
+     *
+     * @param value the value to check for existence in this counting bloom filter
+     * @return {@code true} if the element is present in the counting bloom filter,
+     *          {@code false} otherwise
+     */
+    public boolean hasValue(T value) {
+        long hash = BloomFilter.mix(value.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (counter(BloomFilter.bitIndex(hash1, hash2, i, filterLen)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Query
+     * Returns the probability that hasValue() returns {@code true} for a value
+     * that is not present, estimated from the fraction of non-zero counters
+     *
+     * @return the expected false positive rate of the counting bloom filter
+     */
+    public double expectedFpp() {
+        return Math.pow((double) nonZeroCount / filterLen, hashCount);
+    }
+
+    /**
+     * @Query
+     * Returns the number of counters that reached {@link #MAX_COUNTER} and are stuck there,
+     * the values sharing them can not be removed completely
+     *
+     * @return the number of saturated counters
+     */
+    public int getSaturatedCount() {
+        return saturatedCount;
+    }
+
+    /**
+     * @Query
+     * Returns the length of the counting bloom filter
+     *
+     * @return the number of 4-bit counters in the counting bloom filter
+     */
+    public int getFilterLen() {
+        return filterLen;
+    }
+
+    /**
+     * @Query
+     * Returns the number of hash functions the counting bloom filter uses for each value
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @Query
+     * Returns the status of remove() command
+     *
+     * @return one of the following statuses:
+     *          {@link #REMOVE_NIL} if remove() was not invoked
+     *          {@link #REMOVE_OK}  if last remove() was invoked successfully
+     *          {@link #REMOVE_ERR} if remove() has error, the value is not present
+     */
+    public int getRemoveStatus() {
+        return this.removeStatus;
+    }
+
+    private int counter(int counterIndex) {
+        return (int) ((counters[counterIndex / COUNTERS_PER_WORD] >>> shift(counterIndex)) & COUNTER_MASK);
+    }
+
+    private static int shift(int counterIndex) {
+        return (counterIndex % COUNTERS_PER_WORD) * 4;
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.github.ducknowledges.oop_low_level_design.bloomfilter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedBloomFilter<T> {
+
+    private static final long BIT = 1L;
+
+    private final MappedByteBuffer binaryFilter;
+    private final int filterLen;
+    private final int hashCount;
+    private final long seed;
+
+    /**
+     * @Constructor
+     * Maps a file written by {@link BloomFilter#writeTo(Path)} into memory read-only.
+     * The bits are not copied to the heap, hasValue() reads them straight from the page cache.
+     * @Post-condition: a bloom filter with the content of the file was created
+     *
+     * @param path the bloom filter file
+     * @throws IOException if the file can not be read or is not a bloom filter file
+     */
+    public MappedBloomFilter(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            this.binaryFilter = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            BloomFilterFormat.checkHeader(this.binaryFilter, fileSize);
+        }
+        this.filterLen = this.binaryFilter.getInt(8);
+        this.hashCount = this.binaryFilter.getInt(12);
+        this.seed = this.binaryFilter.getLong(16);
+    }
+
+    /**
+     * @Query
+     * Checks if the specified value is present in the bloom filter
+     * False positive result is allowed
+     *
+     * @param value the value to check for existence in this bloom filter
+     * @return {@code true} if the element is present in the bloom filter, {@code false} otherwise
+     */
+    public boolean hasValue(T value) {
+        long hash = BloomFilter.mix(value.hashCode(), seed);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = BloomFilter.bitIndex(hash1, hash2, i, filterLen);
+            long word = binaryFilter.getLong(BloomFilterFormat.HEADER_BYTES + (bitIndex >>> 6) * Long.BYTES);
+            if ((word & (BIT << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Query
+     * Returns the length of the bloom filter
+     *
+     * @return the number of bits in the bloom filter
+     */
+    public int getFilterLen() {
+        return filterLen;
+    }
+
+    /**
+     * @Query
+     * Returns the number of hash functions the bloom filter checks for each value
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @Query
+     * Returns the seed the hash functions of the bloom filter are derived from
+     *
+     * @return the hash seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+}
@@ -66,11 +66,25 @@ public abstract class ParentQueue<E> {
      * @param element the element to be added into end this queue.
      */
     void addLast(E element) {
+        this.addLastStatus = this.tryAddLast(element);
+    }
+
+    /**
+     * @Command
+     * Add an element into end of this queue and return the status of the command
+     * instead of recording it for getAddLastStatus()
+     * @Pre-condition: queue is not completely filled
+     * @Post-condition: a new element is added into this queue
+     *
+     * @param element the element to be added into end this queue.
+     * @return {@link #ADD_LAST_OK} if the command was invoked successfully, {@link #ADD_LAST_ERR} otherwise
+     */
+    int tryAddLast(E element) {
         if (storage.size() < capacity) {
             storage.addLast(element);
-            addLastStatus = ADD_LAST_OK;
+            return ADD_LAST_OK;
         } else {
-            addLastStatus = ADD_LAST_ERR;
+            return ADD_LAST_ERR;
         }
     }
 
@@ -81,11 +95,24 @@ public abstract class ParentQueue<E> {
      * @Post-condition: the head element is removed from the queue
      */
     void removeFirst() {
+        this.removeFirstStatus = this.tryRemoveFirst();
+    }
+
+    /**
+     * @Command
+     * Removes the element at the head of this queue and return the status of the command
+     * instead of recording it for getRemoveFirstStatus()
+     * @Pre-condition: queue is not empty
+     * @Post-condition: the head element is removed from the queue
+     *
+     * @return {@link #REMOVE_FIRST_OK} if the command was invoked successfully, {@link #REMOVE_FIRST_ERR} otherwise
+     */
+    int tryRemoveFirst() {
         if (storage.isEmpty()) {
-            removeFirstStatus = REMOVE_FIRST_ERR;
+            return REMOVE_FIRST_ERR;
         } else {
             storage.removeFirst();
-            removeFirstStatus = REMOVE_FIRST_OK;
+            return REMOVE_FIRST_OK;
         }
     }
 
@@ -256,11 +283,25 @@ class Deque<E> extends ParentQueue<E> {
      * @param element the element to be enqueued into this queue.
      */
     void addFirst(E element) {
+        this.addFirstStatus = this.tryAddFirst(element);
+    }
+
+    /**
+     * @Command
+     * Add first an element into head of this queue and return the status of the command
+     * instead of recording it for getAddFirstStatus()
+     * @Pre-condition: deque is not completely filled
+     * @Post-condition: a new element is added into head of this dequeue
+     *
+     * @param element the element to be enqueued into this queue.
+     * @return {@link #ADD_FIRST_OK} if the command was invoked successfully, {@link #ADD_FIRST_ERR} otherwise
+     */
+    int tryAddFirst(E element) {
         if (this.storage.size() < capacity) {
             storage.addLast(element);
-            addFirstStatus = ADD_FIRST_OK;
+            return ADD_FIRST_OK;
         } else {
-            addFirstStatus = ADD_FIRST_ERR;
+            return ADD_FIRST_ERR;
         }
     }
 
@@ -271,11 +312,24 @@ class Deque<E> extends ParentQueue<E> {
      * @Post-condition: the last element is removed from the dequeue
      */
     void removeLast() {
+        this.removeLastStatus = this.tryRemoveLast();
+    }
+
+    /**
+     * @Command
+     * Removes the element at the end of this queue and return the status of the command
+     * instead of recording it for getRemoveLastStatus()
+     * @Pre-condition: queue is not empty
+     * @Post-condition: the last element is removed from the dequeue
+     *
+     * @return {@link #REMOVE_LAST_OK} if the command was invoked successfully, {@link #REMOVE_LAST_ERR} otherwise
+     */
+    int tryRemoveLast() {
         if (storage.isEmpty()) {
-            removeLastStatus = REMOVE_LAST_ERR;
+            return REMOVE_LAST_ERR;
         } else {
             storage.removeFirst();
-            removeLastStatus = REMOVE_LAST_OK;
+            return REMOVE_LAST_OK;
         }
     }
 
@@ -314,10 +368,22 @@ class Deque<E> extends ParentQueue<E> {
      *          {@link #ADD_FIRST_OK}
      *          {@link #ADD_FIRST_ERR}
      */
-    int getFindStatus() {
+    int getAddFirstStatus() {
         return this.addFirstStatus;
     }
 
+    /**
+     * @Query
+     * Returns the status of addFirst() request, kept for the callers of the former name
+     *
+     * @deprecated use {@link #getAddFirstStatus()}
+     * @return the same status as {@link #getAddFirstStatus()}
+     */
+    @Deprecated
+    int getFindStatus() {
+        return this.getAddFirstStatus();
+    }
+
     /**
      * @Query
      * Returns the status of removeLast() request
@@ -1,6 +1,9 @@
 package com.github.ducknowledges.oop_low_level_design.dynamicarray;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Objects;
 
 public class DynArray<E> {
@@ -40,37 +43,88 @@ public class DynArray<E> {
     /** Status: insert() was invoked when the index is out of range or the array is empty */
     public static final int INSERT_ERR = 2;
 
+    /** Status: appendAll() was not invoked. */
+    public static final int APPEND_ALL_NIL = 0;
+    /** Status: last appendAll() was invoked successfully. */
+    public static final int APPEND_ALL_OK = 1;
+    /** Status: appendAll() was invoked without a collection of elements */
+    public static final int APPEND_ALL_ERR = 2;
+
+    /** Status: insertAll() was not invoked. */
+    public static final int INSERT_ALL_NIL = 0;
+    /** Status: last insertAll() was invoked successfully. */
+    public static final int INSERT_ALL_OK = 1;
+    /** Status: insertAll() was invoked when the index is out of range, the array is empty
+     * or without a collection of elements */
+    public static final int INSERT_ALL_ERR = 2;
+
+    /** Status: removeRange() was not invoked. */
+    public static final int REMOVE_RANGE_NIL = 0;
+    /** Status: last removeRange() was invoked successfully. */
+    public static final int REMOVE_RANGE_OK = 1;
+    /** Status: removeRange() was invoked when the range is empty or out of range */
+    public static final int REMOVE_RANGE_ERR = 2;
+
     private static final int DEFAULT_INITIAL_CAPACITY = 16;
-    private static final int INCREASE_CAPACITY = 2;
-    private static final double DECREASE_CAPACITY = 1.5;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    private static final double DEFAULT_SHRINK_THRESHOLD = 0.25;
 
     private E[] buffer;
     private int capacity;
     private int size;
 
+    private final double growthFactor;
+    private final double shrinkThreshold;
+    private long growCount;
+    private long shrinkCount;
+
+    private HashMap<E, Integer> positions;
+    private boolean positionsStale;
+
     private int replaceStatus;
     private int removeStatus;
     private int getStatus;
     private int getIndexStatus;
     private int insertStatus;
+    private int appendAllStatus;
+    private int insertAllStatus;
+    private int removeRangeStatus;
 
     /**
      * @Constructor
-     * Creates a new DynArray with a specified initial capacity
+     * Creates a new DynArray with a specified initial capacity and resize policy.
+     * The buffer is multiplied by growthFactor when it is full and divided by growthFactor
+     * when less than shrinkThreshold of it is used. A shrink threshold below 1 / growthFactor
+     * leaves a gap between the grow and the shrink points, so appends and removes around
+     * one size do not reallocate the buffer again and again.
      *
      * @Post-condition: a new empty array of a specified initial capacity was created
      *
+     * @param initialCapacity the initial capacity of the buffer
+     * @param growthFactor the factor greater than 1, 2 is used otherwise
+     * @param shrinkThreshold the used fraction of the buffer that triggers shrinking,
+     *                        0 disables shrinking, the smaller of 0.25 and 1 / (2 * growthFactor)
+     *                        is used if it is not below 1 / growthFactor
      */
-    DynArray(int initialCapacity) {
+    DynArray(int initialCapacity, double growthFactor, double shrinkThreshold) {
+        this.growthFactor = growthFactor > 1 ? growthFactor : DEFAULT_GROWTH_FACTOR;
+        this.shrinkThreshold = shrinkThreshold >= 0 && shrinkThreshold * this.growthFactor < 1
+                ? shrinkThreshold
+                : Math.min(DEFAULT_SHRINK_THRESHOLD, 1 / (2 * this.growthFactor));
         this.capacity = initialCapacity;
         this.makeArray(initialCapacity);
         this.size = 0;
+        this.growCount = 0;
+        this.shrinkCount = 0;
 
         this.replaceStatus = REPLACE_NIL;
         this.removeStatus = REMOVE_NIL;
         this.getStatus = GET_NIL;
         this.getIndexStatus = GET_INDEX_NIL;
         this.insertStatus = INSERT_NIL;
+        this.appendAllStatus = APPEND_ALL_NIL;
+        this.insertAllStatus = INSERT_ALL_NIL;
+        this.removeRangeStatus = REMOVE_RANGE_NIL;
     }
 
     /**
@@ -84,6 +138,18 @@ public class DynArray<E> {
         this(DEFAULT_INITIAL_CAPACITY);
     }
 
+    /**
+     * @Constructor
+     * Creates a new DynArray with a specified initial capacity,
+     * the buffer doubles when it is full and halves when less than a quarter of it is used
+     *
+     * @Post-condition: a new empty array of a specified initial capacity was created
+     *
+     */
+    DynArray(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR, DEFAULT_SHRINK_THRESHOLD);
+    }
+
     /* Commands */
 
     /**
@@ -99,6 +165,7 @@ public class DynArray<E> {
             this.increaseBuffer();
         }
         buffer[size] = element;
+        this.indexAppended(element, size);
         size = size + 1;
     }
 
@@ -114,11 +181,29 @@ public class DynArray<E> {
      * @param element the new element that replaces the current element
      */
     public void replace(int index, E element) {
+        this.replaceStatus = this.tryReplace(index, element);
+    }
+
+    /**
+     * @Command
+     * Replaces the element at the specified position and return the status of the command
+     * instead of recording it for getReplaceStatus()
+     *
+     * @Pre-condition: - the array is not empty
+     *                 - index is not out of range (index >= 0 && index < size())
+     * @Post-condition: the element at the specified position is replaced with the new element
+     *
+     * @param index the specified position number of element in array.
+     * @param element the new element that replaces the current element
+     * @return {@link #REPLACE_OK} if the command was invoked successfully, {@link #REPLACE_ERR} otherwise
+     */
+    public int tryReplace(int index, E element) {
         if (this.isEmpty() || this.isOutOfRange(index)) {
-            this.replaceStatus = REPLACE_ERR;
+            return REPLACE_ERR;
         } else {
+            this.indexReplaced(index, buffer[index], element);
             buffer[index] = element;
-            this.replaceStatus = REPLACE_OK;
+            return REPLACE_OK;
         }
     }
 
@@ -134,8 +219,25 @@ public class DynArray<E> {
      * @param element the new element that inserted at the specified position.
      */
     public void insert(int index, E element) {
+        this.insertStatus = this.tryInsert(index, element);
+    }
+
+    /**
+     * @Command
+     * Insert the element at the specified position and return the status of the command
+     * instead of recording it for getInsertStatus()
+     *
+     * @Pre-condition: - the array is not empty
+     *                 - index is not out of range (index >= 0 && index < size())
+     * @Post-condition: insert the element at the specified position with
+     *
+     * @param index the specified position number of element in array.
+     * @param element the new element that inserted at the specified position.
+     * @return {@link #INSERT_OK} if the command was invoked successfully, {@link #INSERT_ERR} otherwise
+     */
+    public int tryInsert(int index, E element) {
         if (this.isEmpty() || this.isOutOfRange(index)) {
-            insertStatus = INSERT_ERR;
+            return INSERT_ERR;
         } else {
             if (size == capacity) {
                 this.increaseBuffer();
@@ -143,7 +245,8 @@ public class DynArray<E> {
             this.shiftElementsToRightFrom(index);
             buffer[index] = element;
             size = size + 1;
-            insertStatus = INSERT_OK;
+            this.indexInserted(index, element);
+            return INSERT_OK;
         }
     }
 
@@ -158,16 +261,187 @@ public class DynArray<E> {
      * @param index the specified position number of element in array.
      */
     public void remove(int index) {
+        this.removeStatus = this.tryRemove(index);
+    }
+
+    /**
+     * @Command
+     * Removes the element at the specified position and return the status of the command
+     * instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: - the array is not empty
+     *                 - index is not out of range (index >= 0 && index < size())
+     * @Post-condition: the element is removed by index
+     *
+     * @param index the specified position number of element in array.
+     * @return {@link #REMOVE_OK} if the command was invoked successfully, {@link #REMOVE_ERR} otherwise
+     */
+    public int tryRemove(int index) {
         if (this.isEmpty() || this.isOutOfRange(index)) {
-            this.removeStatus = REMOVE_ERR;
+            return REMOVE_ERR;
         } else {
+            E element = buffer[index];
             this.shiftElementsToLeftFrom(index);
             buffer[this.size - 1] = null;
             size = size - 1;
-            if (((double) size / capacity) < 0.5 && capacity > 16) {
-                this.decreaseBuffer();
-            }
-            this.removeStatus = REMOVE_OK;
+            this.indexRemoved(index, element);
+            this.shrinkIfSparse();
+            return REMOVE_OK;
+        }
+    }
+
+    /**
+     * @Command
+     * Adds all elements of the collection to the end of the array in their iteration order.
+     * The buffer grows at most once and the elements are copied with a single array copy.
+     *
+     * @Pre-condition: the collection is not null
+     * @Post-condition: all elements of the collection are added as the last elements of array
+     *
+     * @param elements the elements to be added to the array
+     */
+    public void appendAll(Collection<? extends E> elements) {
+        this.appendAllStatus = this.tryAppendAll(elements);
+    }
+
+    /**
+     * @Command
+     * Adds all elements of the collection to the end of the array in their iteration order
+     * and return the status of the command instead of recording it for getAppendAllStatus()
+     *
+     * @Pre-condition: the collection is not null
+     * @Post-condition: all elements of the collection are added as the last elements of array
+     *
+     * @param elements the elements to be added to the array
+     * @return {@link #APPEND_ALL_OK} if the command was invoked successfully, {@link #APPEND_ALL_ERR} otherwise
+     */
+    public int tryAppendAll(Collection<? extends E> elements) {
+        if (elements == null) {
+            return APPEND_ALL_ERR;
+        }
+        Object[] source = elements.toArray();
+        this.ensureCapacity(this.size + source.length);
+        System.arraycopy(source, 0, buffer, this.size, source.length);
+        for (int i = this.size; i < this.size + source.length; i++) {
+            this.indexAppended(buffer[i], i);
+        }
+        this.size = this.size + source.length;
+        return APPEND_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Inserts all elements of the collection starting at the specified position,
+     * the elements from this position are shifted to the right once.
+     *
+     * @Pre-condition: - the array is not empty
+     *                 - index is not out of range (index >= 0 && index < size())
+     *                 - the collection is not null
+     * @Post-condition: the elements of the collection are inserted starting at the specified position
+     *
+     * @param index the specified position number of the first inserted element
+     * @param elements the elements to be inserted at the specified position
+     */
+    public void insertAll(int index, Collection<? extends E> elements) {
+        this.insertAllStatus = this.tryInsertAll(index, elements);
+    }
+
+    /**
+     * @Command
+     * Inserts all elements of the collection starting at the specified position
+     * and return the status of the command instead of recording it for getInsertAllStatus()
+     *
+     * @Pre-condition: - the array is not empty
+     *                 - index is not out of range (index >= 0 && index < size())
+     *                 - the collection is not null
+     * @Post-condition: the elements of the collection are inserted starting at the specified position
+     *
+     * @param index the specified position number of the first inserted element
+     * @param elements the elements to be inserted at the specified position
+     * @return {@link #INSERT_ALL_OK} if the command was invoked successfully, {@link #INSERT_ALL_ERR} otherwise
+     */
+    public int tryInsertAll(int index, Collection<? extends E> elements) {
+        if (elements == null || this.isEmpty() || this.isOutOfRange(index)) {
+            return INSERT_ALL_ERR;
+        }
+        Object[] source = elements.toArray();
+        this.ensureCapacity(this.size + source.length);
+        System.arraycopy(buffer, index, buffer, index + source.length, this.size - index);
+        System.arraycopy(source, 0, buffer, index, source.length);
+        this.size = this.size + source.length;
+        this.invalidateIndex();
+        return INSERT_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     * The tail is shifted to the left once and the buffer shrinks at most once.
+     *
+     * @Pre-condition: the range is not empty and lies in the array
+     *                 (fromIndex >= 0 && fromIndex < toIndex && toIndex <= size())
+     * @Post-condition: the elements of the range are removed
+     *
+     * @param fromIndex the position of the first removed element
+     * @param toIndex the position after the last removed element
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        this.removeRangeStatus = this.tryRemoveRange(fromIndex, toIndex);
+    }
+
+    /**
+     * @Command
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive
+     * and return the status of the command instead of recording it for getRemoveRangeStatus()
+     *
+     * @Pre-condition: the range is not empty and lies in the array
+     *                 (fromIndex >= 0 && fromIndex < toIndex && toIndex <= size())
+     * @Post-condition: the elements of the range are removed
+     *
+     * @param fromIndex the position of the first removed element
+     * @param toIndex the position after the last removed element
+     * @return {@link #REMOVE_RANGE_OK} if the command was invoked successfully, {@link #REMOVE_RANGE_ERR} otherwise
+     */
+    public int tryRemoveRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex >= toIndex || toIndex > this.size) {
+            return REMOVE_RANGE_ERR;
+        }
+        int newSize = this.size - (toIndex - fromIndex);
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, this.size - toIndex);
+        Arrays.fill(buffer, newSize, this.size, null);
+        this.size = newSize;
+        this.invalidateIndex();
+        this.shrinkIfSparse();
+        return REMOVE_RANGE_OK;
+    }
+
+    /**
+     * @Command
+     * Switches getIndexOf() to a hash index from an element to its first position.
+     * append(), insert(), replace() and remove() keep the index up to date,
+     * insertAll() and removeRange() only mark it stale and the next getIndexOf() rebuilds it once.
+     *
+     * @Post-condition: getIndexOf() finds the element in O(1) on average
+     */
+    public void enableIndex() {
+        if (this.positions == null) {
+            this.positions = new HashMap<>();
+            this.positionsStale = true;
+        }
+    }
+
+    /**
+     * @Command
+     * Shrinks the buffer to the size of the array, but not below the default initial capacity
+     *
+     * @Post-condition: the capacity of the buffer is equal to the size of the array
+     *                  or to the default initial capacity
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(this.size, DEFAULT_INITIAL_CAPACITY);
+        if (newCapacity < this.capacity) {
+            this.makeArray(newCapacity);
+            this.shrinkCount++;
         }
     }
 
@@ -179,12 +453,23 @@ public class DynArray<E> {
      */
     @SuppressWarnings("unchecked")
     public void clear() {
+        if (this.capacity > DEFAULT_INITIAL_CAPACITY) {
+            this.shrinkCount++;
+        }
         this.buffer = (E[]) Array.newInstance(Object.class, DEFAULT_INITIAL_CAPACITY);
+        this.capacity = DEFAULT_INITIAL_CAPACITY;
         this.size = 0;
+        if (this.positions != null) {
+            this.positions.clear();
+            this.positionsStale = false;
+        }
         this.replaceStatus = REPLACE_NIL;
         this.removeStatus = REMOVE_NIL;
         this.getStatus = GET_NIL;
         this.getIndexStatus = GET_INDEX_NIL;
+        this.appendAllStatus = APPEND_ALL_NIL;
+        this.insertAllStatus = INSERT_ALL_NIL;
+        this.removeRangeStatus = REMOVE_RANGE_NIL;
     }
 
     /* Query */
@@ -218,6 +503,9 @@ public class DynArray<E> {
      * @return index the index of found element or -1 if not found
      */
     public int getIndexOf(E element) {
+        if (this.positions != null) {
+            return this.getIndexedIndexOf(element);
+        }
         if (!this.isEmpty()) {
             for (int i = 0; i < size; i++) {
                 if (Objects.equals(buffer[i], element)) {
@@ -250,6 +538,37 @@ public class DynArray<E> {
         return size == 0;
     }
 
+    /**
+     * @Query
+     * Returns the number of slots in the buffer
+     *
+     * @return the current capacity of the buffer
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @Query
+     * Returns how many times the buffer was reallocated to a larger capacity
+     *
+     * @return the number of buffer growths since the array was created
+     */
+    public long getGrowCount() {
+        return this.growCount;
+    }
+
+    /**
+     * @Query
+     * Returns how many times the buffer was reallocated to a smaller capacity,
+     * including trimToSize() and clear() of a grown buffer
+     *
+     * @return the number of buffer shrinks since the array was created
+     */
+    public long getShrinkCount() {
+        return this.shrinkCount;
+    }
+
     /**
      * @Query
      * Returns the status of replace() command
@@ -315,6 +634,45 @@ public class DynArray<E> {
         return this.insertStatus;
     }
 
+    /**
+     * @Query
+     * Returns the status of appendAll() command
+     *
+     * @return one of the following statuses:
+     *          {@link #APPEND_ALL_NIL} if appendAll() was not invoked
+     *          {@link #APPEND_ALL_OK}  if last appendAll() was invoked successfully
+     *          {@link #APPEND_ALL_ERR} if appendAll() has error
+     */
+    public int getAppendAllStatus() {
+        return this.appendAllStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of insertAll() command
+     *
+     * @return one of the following statuses:
+     *          {@link #INSERT_ALL_NIL} if insertAll() was not invoked
+     *          {@link #INSERT_ALL_OK}  if last insertAll() was invoked successfully
+     *          {@link #INSERT_ALL_ERR} if insertAll() has error
+     */
+    public int getInsertAllStatus() {
+        return this.insertAllStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of removeRange() command
+     *
+     * @return one of the following statuses:
+     *          {@link #REMOVE_RANGE_NIL} if removeRange() was not invoked
+     *          {@link #REMOVE_RANGE_OK}  if last removeRange() was invoked successfully
+     *          {@link #REMOVE_RANGE_ERR} if removeRange() has error
+     */
+    public int getRemoveRangeStatus() {
+        return this.removeRangeStatus;
+    }
+
     @SuppressWarnings("unchecked")
     private void makeArray(int new_capacity) {
         this.capacity = Math.max(new_capacity, DEFAULT_INITIAL_CAPACITY);
@@ -325,16 +683,116 @@ public class DynArray<E> {
         }
     }
 
+    private int getIndexedIndexOf(E element) {
+        if (this.positionsStale) {
+            this.positions.clear();
+            for (int i = 0; i < this.size; i++) {
+                this.positions.putIfAbsent(buffer[i], i);
+            }
+            this.positionsStale = false;
+        }
+        Integer position = this.positions.get(element);
+        getIndexStatus = position != null ? GET_INDEX_OK : GET_INDEX_ERR;
+        return position != null ? position : -1;
+    }
+
+    private void indexAppended(E element, int index) {
+        if (this.positions != null && !this.positionsStale) {
+            this.positions.putIfAbsent(element, index);
+        }
+    }
+
+    private void indexReplaced(int index, E previous, E element) {
+        if (this.positions == null || this.positionsStale || Objects.equals(previous, element)) {
+            return;
+        }
+        Integer previousPosition = this.positions.get(previous);
+        if (previousPosition != null && previousPosition == index) {
+            this.positions.remove(previous);
+            this.indexNextOccurrence(previous, index + 1);
+        }
+        Integer position = this.positions.get(element);
+        if (position == null || position > index) {
+            this.positions.put(element, index);
+        }
+    }
+
+    private void indexInserted(int index, E element) {
+        if (this.positions == null || this.positionsStale) {
+            return;
+        }
+        this.positions.replaceAll((e, p) -> p >= index ? p + 1 : p);
+        Integer position = this.positions.get(element);
+        if (position == null || position > index) {
+            this.positions.put(element, index);
+        }
+    }
+
+    private void indexRemoved(int index, E element) {
+        if (this.positions == null || this.positionsStale) {
+            return;
+        }
+        Integer position = this.positions.get(element);
+        if (index < this.size) {
+            this.positions.replaceAll((e, p) -> p > index ? p - 1 : p);
+        }
+        if (position != null && position == index) {
+            this.positions.remove(element);
+            this.indexNextOccurrence(element, index);
+        }
+    }
+
+    private void indexNextOccurrence(E element, int fromIndex) {
+        for (int i = fromIndex; i < this.size; i++) {
+            if (Objects.equals(buffer[i], element)) {
+                this.positions.put(element, i);
+                return;
+            }
+        }
+    }
+
+    private void invalidateIndex() {
+        if (this.positions != null) {
+            this.positionsStale = true;
+        }
+    }
+
     private boolean isOutOfRange(int index) {
         return index >= this.size || index < 0;
     }
 
+    private void ensureCapacity(int requiredCapacity) {
+        if (requiredCapacity <= this.capacity) {
+            return;
+        }
+        int newCapacity = this.capacity;
+        while (newCapacity < requiredCapacity) {
+            newCapacity = this.grownCapacity(newCapacity);
+        }
+        makeArray(newCapacity);
+        this.growCount++;
+    }
+
     private void increaseBuffer() {
-        makeArray(INCREASE_CAPACITY * this.capacity);
+        makeArray(this.grownCapacity(this.capacity));
+        this.growCount++;
+    }
+
+    private int grownCapacity(int currentCapacity) {
+        return Math.max(currentCapacity + 1, (int) (currentCapacity * this.growthFactor));
     }
 
-    private void decreaseBuffer() {
-        makeArray((int)(this.capacity / DECREASE_CAPACITY));
+    private void shrinkIfSparse() {
+        int newCapacity = this.capacity;
+        while (newCapacity > DEFAULT_INITIAL_CAPACITY
+                && ((double) this.size / newCapacity) < this.shrinkThreshold) {
+            newCapacity = (int) (newCapacity / this.growthFactor);
+        }
+        newCapacity = Math.max(newCapacity, Math.max(this.size, DEFAULT_INITIAL_CAPACITY));
+        if (newCapacity < this.capacity) {
+            this.makeArray(newCapacity);
+            this.shrinkCount++;
+        }
     }
 
     private void shiftElementsToLeftFrom(int index) {
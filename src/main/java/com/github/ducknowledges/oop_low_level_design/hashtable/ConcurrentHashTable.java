@@ -0,0 +1,385 @@
+package com.github.ducknowledges.oop_low_level_design.hashtable;
+
+import java.util.concurrent.locks.StampedLock;
+
+public class ConcurrentHashTable<E> {
+
+    /* Status: put() was not invoked by the current thread */
+    public static final int PUT_NIL = 0;
+    /* Status: put() was invoked successfully */
+    public static final int PUT_OK = 1;
+    /* Status: put() was invoked when can't add element to hashtable */
+    public static final int PUT_ERR = 2;
+
+    /* Status: remove() was not invoked by the current thread */
+    public static final int REMOVE_NIL = 0;
+    /* Status: remove() was invoked successfully */
+    public static final int REMOVE_OK = 1;
+    /* Status: remove() was invoked when can't find element to remove */
+    public static final int REMOVE_ERR = 2;
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private static final int PUT_STATUS = 0;
+    private static final int REMOVE_STATUS = 1;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final ThreadLocal<int[]> statuses;
+
+    /**
+     * @Constructor
+     * Creates a new thread safe hash table with initial capacity split into segments,
+     * each segment is a growing open addressing table guarded by its own lock.
+     * Commands lock only the segment of the element, queries do not lock at all
+     * unless a command changes the same segment at the same time.
+     * @Post-condition: a new empty hash table with initial capacity was created
+     *
+     * @param capacity the initial capacity of all segments together
+     * @param concurrencyLevel the expected number of threads changing the table at once,
+     *                         rounded up to a power of two number of segments
+     */
+    public ConcurrentHashTable(int capacity, int concurrencyLevel) {
+        int segmentCount = powerOfTwoFor(Math.min(Math.max(concurrencyLevel, 1), MAXIMUM_SEGMENTS));
+        int segmentBits = Integer.numberOfTrailingZeros(segmentCount);
+        this.segmentShift = Integer.SIZE - segmentBits;
+        this.segmentMask = segmentCount - 1;
+
+        int segmentCapacity = powerOfTwoFor(
+                (int) Math.ceil(Math.max(capacity, 1) / (segmentCount * MAX_LOAD_FACTOR)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(Math.max(segmentCapacity, 2));
+        }
+        this.statuses = ThreadLocal.withInitial(() -> new int[] {PUT_NIL, REMOVE_NIL});
+    }
+
+    /**
+     * @Constructor
+     * Creates a new thread safe hash table with initial capacity and 16 segments
+     * @Post-condition: a new empty hash table with initial capacity was created
+     */
+    public ConcurrentHashTable(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @Command
+     * Put element to hash table, an element that is already present is not added twice.
+     * The status is recorded for the current thread only.
+     *
+     * @Pre-condition: the element is not null
+     * @Post-condition: the element is present in the hash table
+     *
+     * @param element the element to be putted into the hash table.
+     */
+    public void put(E element) {
+        if (element == null) {
+            this.statuses.get()[PUT_STATUS] = PUT_ERR;
+            return;
+        }
+        int hash = spread(element.hashCode());
+        boolean isPut = segmentFor(hash).put(element, hash);
+        this.statuses.get()[PUT_STATUS] = isPut ? PUT_OK : PUT_ERR;
+    }
+
+    /**
+     * @Command
+     * Removes the specified element from the hash table.
+     * The status is recorded for the current thread only.
+     *
+     * @Pre-condition: the hash table has an element that will be removed;
+     * @Post-condition: the element is removed from the hash table
+     *
+     * @param element the element to be removed from this hash table
+     */
+    public void remove(E element) {
+        if (element == null) {
+            this.statuses.get()[REMOVE_STATUS] = REMOVE_ERR;
+            return;
+        }
+        int hash = spread(element.hashCode());
+        boolean isRemoved = segmentFor(hash).remove(element, hash);
+        this.statuses.get()[REMOVE_STATUS] = isRemoved ? REMOVE_OK : REMOVE_ERR;
+    }
+
+    /**
+     * @Command
+     * Clear hash table, segment by segment.
+     * Only the statuses of the current thread are reset.
+     *
+     */
+    public void clear() {
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+        int[] threadStatuses = this.statuses.get();
+        threadStatuses[PUT_STATUS] = PUT_NIL;
+        threadStatuses[REMOVE_STATUS] = REMOVE_NIL;
+    }
+
+    /**
+     * @Query
+     * Checks if the specified element is present in the hash table without blocking,
+     * unless the segment of the element is changed while it is probed
+     *
+     * @param element the element to check for existence in this hash table
+     * @return {@code true} if the element is found in the hash table, {@code false} otherwise
+     */
+    public boolean contains(E element) {
+        if (element == null) {
+            return false;
+        }
+        int hash = spread(element.hashCode());
+        return segmentFor(hash).contains(element, hash);
+    }
+
+    /**
+     * @Query
+     * Returns the number of elements in this hash table.
+     * Under concurrent commands the result is a snapshot that may be already outdated.
+     *
+     * @return the number of elements currently stored in this hash table
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * @Query
+     * Checks if this hash table contains no elements.
+     *
+     * @return {@code true} if this hash table contains no elements, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * @Query
+     * Returns the status of the last put() invoked by the current thread
+     *
+     * @return one of the following statuses:
+     *          {@link #PUT_NIL} if put() was not invoked by the current thread
+     *          {@link #PUT_OK}  if last put() returned correct result
+     *          {@link #PUT_ERR} if put() has error
+     */
+    public int getPutStatus() {
+        return this.statuses.get()[PUT_STATUS];
+    }
+
+    /**
+     * @Query
+     * Returns the status of the last remove() invoked by the current thread
+     *
+     * @return one of the following statuses:
+     *          {@link #REMOVE_NIL} if remove() was not invoked by the current thread
+     *          {@link #REMOVE_OK}  if last remove() returned correct result
+     *          {@link #REMOVE_ERR} if remove() has error
+     */
+    public int getRemoveStatus() {
+        return this.statuses.get()[REMOVE_STATUS];
+    }
+
+    private Segment segmentFor(int hash) {
+        return this.segments[(hash >>> this.segmentShift) & this.segmentMask];
+    }
+
+    private static int spread(int hashCode) {
+        int hash = hashCode;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int powerOfTwoFor(int capacity) {
+        if (capacity >= MAXIMUM_SEGMENT_CAPACITY) {
+            return MAXIMUM_SEGMENT_CAPACITY;
+        }
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Open addressing table with linear probing and backward-shift deletion,
+     * the spread hash of every element is cached next to its slot.
+     * Commands hold the write lock. contains() probes the cached hashes under an optimistic
+     * read stamp and calls equals() only on a slot copied out before the stamp was validated,
+     * so user code never sees a slot that a command is changing.
+     * It falls back to the read lock if a command ran in between or the matching hash
+     * belongs to another element.
+     */
+    private static final class Segment {
+        private final StampedLock lock;
+        private Object[] slots;
+        private int[] hashes;
+        private volatile int size;
+        private int resizeThreshold;
+
+        Segment(int capacity) {
+            this.lock = new StampedLock();
+            this.slots = new Object[capacity];
+            this.hashes = new int[capacity];
+            this.size = 0;
+            this.resizeThreshold = (int) (capacity * MAX_LOAD_FACTOR);
+        }
+
+        boolean contains(Object element, int hash) {
+            long stamp = this.lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Object[] slots = this.slots;
+                int[] hashes = this.hashes;
+                Object candidate = slots.length == hashes.length ? findCandidate(slots, hashes, hash) : null;
+                if (this.lock.validate(stamp)) {
+                    if (candidate == null) {
+                        return false;
+                    }
+                    if (element.equals(candidate)) {
+                        return true;
+                    }
+                }
+            }
+            stamp = this.lock.readLock();
+            try {
+                return find(this.slots, this.hashes, element, hash) >= 0;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        boolean put(Object element, int hash) {
+            long stamp = this.lock.writeLock();
+            try {
+                if (find(this.slots, this.hashes, element, hash) >= 0) {
+                    return true;
+                }
+                if (this.size >= this.resizeThreshold) {
+                    if (this.slots.length >= MAXIMUM_SEGMENT_CAPACITY) {
+                        return false;
+                    }
+                    this.resize(this.slots.length * 2);
+                }
+                int index = seekSlotIndex(this.slots, hash);
+                this.slots[index] = element;
+                this.hashes[index] = hash;
+                this.size = this.size + 1;
+                return true;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean remove(Object element, int hash) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = find(this.slots, this.hashes, element, hash);
+                if (index < 0) {
+                    return false;
+                }
+                this.shiftBackFrom(index);
+                this.size = this.size - 1;
+                return true;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = this.lock.writeLock();
+            try {
+                this.slots = new Object[this.slots.length];
+                this.hashes = new int[this.hashes.length];
+                this.size = 0;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void resize(int newCapacity) {
+            Object[] oldSlots = this.slots;
+            int[] oldHashes = this.hashes;
+            Object[] newSlots = new Object[newCapacity];
+            int[] newHashes = new int[newCapacity];
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != null) {
+                    int index = seekSlotIndex(newSlots, oldHashes[i]);
+                    newSlots[index] = oldSlots[i];
+                    newHashes[index] = oldHashes[i];
+                }
+            }
+            this.slots = newSlots;
+            this.hashes = newHashes;
+            this.resizeThreshold = (int) (newCapacity * MAX_LOAD_FACTOR);
+        }
+
+        private void shiftBackFrom(int index) {
+            int mask = this.slots.length - 1;
+            int freeIndex = index;
+            this.slots[freeIndex] = null;
+
+            int currentIndex = (freeIndex + 1) & mask;
+            while (this.slots[currentIndex] != null) {
+                int homeIndex = this.hashes[currentIndex] & mask;
+                if (((currentIndex - homeIndex) & mask) >= ((currentIndex - freeIndex) & mask)) {
+                    this.slots[freeIndex] = this.slots[currentIndex];
+                    this.hashes[freeIndex] = this.hashes[currentIndex];
+                    this.slots[currentIndex] = null;
+                    freeIndex = currentIndex;
+                }
+                currentIndex = (currentIndex + 1) & mask;
+            }
+        }
+
+        /* Returns the first element of the probe sequence with the same hash, or null if there is none */
+        private static Object findCandidate(Object[] slots, int[] hashes, int hash) {
+            int mask = slots.length - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes < slots.length; probes++) {
+                Object slot = slots[index];
+                if (slot == null) {
+                    return null;
+                }
+                if (hashes[index] == hash) {
+                    return slot;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int find(Object[] slots, int[] hashes, Object element, int hash) {
+            int mask = slots.length - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes < slots.length; probes++) {
+                Object slot = slots[index];
+                if (slot == null) {
+                    return -1;
+                }
+                if (hashes[index] == hash && element.equals(slot)) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int seekSlotIndex(Object[] slots, int hash) {
+            int mask = slots.length - 1;
+            int index = hash & mask;
+            while (slots[index] != null) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+    }
+}
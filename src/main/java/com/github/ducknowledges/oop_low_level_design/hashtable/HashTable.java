@@ -1,6 +1,9 @@
 package com.github.ducknowledges.oop_low_level_design.hashtable;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
 public class HashTable<E> {
 
@@ -18,12 +21,23 @@ public class HashTable<E> {
     /* Status: remove() was invoked when can't find element to remove */
     public static final int REMOVE_ERR = 2;
 
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
 
-    protected final int capacity;
+    protected int capacity;
     private final int step;
     protected E[] slots;
+    private int[] hashes;
     private int size;
 
+    private final boolean resizable;
+    protected final double maxLoadFactor;
+    private int resizeThreshold;
+
+    protected final boolean robinHood;
+    private int[] distances;
+
     private int putStatus;
     private int removeStatus;
 
@@ -36,6 +50,57 @@ public class HashTable<E> {
         this.capacity = capacity;
         this.step = 1;
         this.slots = (E[]) Array.newInstance(Object.class, this.capacity);
+        this.hashes = new int[this.capacity];
+        this.resizable = false;
+        this.maxLoadFactor = 1.0;
+        this.resizeThreshold = capacity;
+        this.robinHood = false;
+
+        this.putStatus = PUT_NIL;
+        this.removeStatus = REMOVE_NIL;
+    }
+
+    /**
+     * @Constructor
+     * Creates a new growing hash table. The capacity is rounded up to a power of two
+     * and doubles every time the number of elements reaches maxLoadFactor * capacity,
+     * so put() fails only when the table can not grow beyond 2^30 slots.
+     * @Post-condition: a new empty growing hash table with initial capacity was created
+     *
+     * @param capacity the initial capacity, 16 is used if it is not positive
+     * @param maxLoadFactor the load factor in (0, 1] that triggers a rehash,
+     *                      0.75 is used if it is out of range
+     */
+    public HashTable(int capacity, double maxLoadFactor) {
+        this(capacity, maxLoadFactor, false);
+    }
+
+    /**
+     * @Constructor
+     * Creates a new growing hash table that uses linear probing or Robin Hood hashing.
+     * Robin Hood hashing stores the probe distance of every element and moves an element
+     * that is farther from its slot forward on put(), so probe lengths stay short and even,
+     * a lookup of an absent element stops at the first element closer to its slot than the probe
+     * and remove() shifts the rest of the cluster back by one slot.
+     * @Post-condition: a new empty growing hash table with initial capacity was created
+     *
+     * @param capacity the initial capacity, 16 is used if it is not positive
+     * @param maxLoadFactor the load factor in (0, 1] that triggers a rehash,
+     *                      0.75 is used if it is out of range
+     * @param robinHood {@code true} to use Robin Hood hashing, {@code false} to use linear probing
+     */
+    public HashTable(int capacity, double maxLoadFactor, boolean robinHood) {
+        this.capacity = capacity > 0 ? powerOfTwoFor(capacity) : DEFAULT_CAPACITY;
+        this.step = 1;
+        this.slots = (E[]) Array.newInstance(Object.class, this.capacity);
+        this.hashes = new int[this.capacity];
+        this.resizable = true;
+        this.maxLoadFactor = maxLoadFactor > 0 && maxLoadFactor <= 1
+                ? maxLoadFactor
+                : DEFAULT_MAX_LOAD_FACTOR;
+        this.resizeThreshold = (int) (this.capacity * this.maxLoadFactor);
+        this.robinHood = robinHood;
+        this.distances = robinHood ? new int[this.capacity] : null;
 
         this.putStatus = PUT_NIL;
         this.removeStatus = REMOVE_NIL;
@@ -46,22 +111,70 @@ public class HashTable<E> {
      * Put element to hash table.
      *
      * @Pre-condition: The hash table has a free place for putting an element
+     *                 or the hash table is growing
      * @Post-condition: a new element has been putted into the hash table
      *
      * @param element the element to be putted into the hash table.
      */
     public void put(E element) {
-        int slotIndex = seekSlotIndex(element);
-        if (slotIndex < 0) {
-            this.putStatus = PUT_ERR;
-        } else {
-            this.slots[slotIndex] = element;
-            this.putStatus = PUT_OK;
+        this.putStatus = this.tryPut(element);
+    }
+
+    /**
+     * @Command
+     * Put element to hash table and return the status of the command
+     * instead of recording it for getPutStatus()
+     *
+     * @Pre-condition: The hash table has a free place for putting an element
+     *                 or the hash table is growing
+     * @Post-condition: a new element has been putted into the hash table
+     *
+     * @param element the element to be putted into the hash table.
+     * @return {@link #PUT_OK} if the element was putted, {@link #PUT_ERR} otherwise
+     */
+    public int tryPut(E element) {
+        return this.putAbsent(element);
+    }
+
+    /**
+     * @Command
+     * Put element to hash table without checking it is already present
+     * and without recording the status, whatever tryPut() is overridden with.
+     * Subclasses that keep elements unique use it to bulk insert elements known to be absent.
+     *
+     * @Pre-condition: The hash table has a free place for putting an element
+     *                 or the hash table is growing
+     * @Post-condition: a new element has been putted into the hash table
+     *
+     * @param element the element absent from the hash table
+     * @return {@link #PUT_OK} if the element was putted, {@link #PUT_ERR} otherwise
+     */
+    protected final int putAbsent(E element) {
+        if (this.resizable && this.size >= this.resizeThreshold && this.capacity < MAXIMUM_CAPACITY) {
+            this.resize(this.capacity * 2);
+        }
+        if (element == null) {
+            return PUT_ERR;
+        }
+        int hash = spread(element.hashCode());
+        if (this.robinHood) {
+            if (this.size == this.capacity) {
+                return PUT_ERR;
+            }
+            this.placeRobinHood(element, hash);
             this.size++;
+            return PUT_OK;
+        }
+        int slotIndex = seekSlotIndex(hash);
+        if (slotIndex < 0) {
+            return PUT_ERR;
         }
+        this.slots[slotIndex] = element;
+        this.hashes[slotIndex] = hash;
+        this.size++;
+        return PUT_OK;
     }
 
-
     /**
      * @Command
      * Removes the specified element from the hash table
@@ -72,24 +185,152 @@ public class HashTable<E> {
      * @param element the element to be removed from this hash table
      */
     public void remove(E element) {
-        int elementIndex = find(element);
+        this.removeStatus = this.tryRemove(element);
+    }
 
+    /**
+     * @Command
+     * Removes the specified element from the hash table and return the status of the command
+     * instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: the hash table has an element that will be removed;
+     * @Post-condition: the element is removed from the hash table
+     *
+     * @param element the element to be removed from this hash table
+     * @return {@link #REMOVE_OK} if the element was removed, {@link #REMOVE_ERR} otherwise
+     */
+    public int tryRemove(E element) {
+        int elementIndex = find(element);
         if (elementIndex == -1) {
-            this.removeStatus = REMOVE_ERR;
-        } else {
+            return REMOVE_ERR;
+        }
+        if (this.robinHood) {
+            this.shiftBackFrom(elementIndex);
+            this.size--;
+            return REMOVE_OK;
+        }
+        slots[elementIndex] = null;
+
+        elementIndex = this.nextIndex(elementIndex);
+        while (slots[elementIndex] != null) {
+            E currentElement = slots[elementIndex];
+            int currentHash = hashes[elementIndex];
             slots[elementIndex] = null;
+            int slotIndex = seekSlotIndex(currentHash);
+            slots[slotIndex] = currentElement;
+            hashes[slotIndex] = currentHash;
+            elementIndex = this.nextIndex(elementIndex);
+        }
+
+        this.size--;
+        return REMOVE_OK;
+    }
+
+    /**
+     * @Command
+     * Removes every element the filter accepts in a single pass over the slots
+     * that moves the rest of the elements back into the freed slots, so no cluster is broken
+     * and no table is allocated, unless the hash table had every slot occupied.
+     *
+     * @Post-condition: no element accepted by the filter is present in the hash table
+     *
+     * @param filter the condition of the elements to be removed, it must not query this hash table
+     * @return the number of removed elements
+     */
+    protected final int removeIf(Predicate<? super E> filter) {
+        return this.removeSlots(index -> filter.test(this.slots[index]));
+    }
 
-            elementIndex = (elementIndex + this.step) % this.capacity;
-            while (slots[elementIndex] != null) {
-                E currentElement = slots[elementIndex];
-                slots[elementIndex] = null;
-                put(currentElement);
-                elementIndex = (elementIndex + this.step) % this.capacity;
+    /**
+     * @Command
+     * Removes every element that is not present in the specified hash table.
+     * The elements of the specified table are looked up in this one with their cached hashes,
+     * the slots of the found ones are marked in a bitmap of a bit per slot, then the slots
+     * of this table are cleared and the marked elements are placed back, so it probes
+     * this table once per element of the specified one and keeps the instances of the specified one.
+     *
+     * @Post-condition: the hash table has only the elements present in both hash tables
+     *
+     * @param table the hash table whose elements are to be retained
+     * @return the number of removed elements
+     */
+    protected final int retainFound(HashTable<E> table) {
+        if (table == this) {
+            return 0;
+        }
+        long[] found = new long[(table.capacity + Long.SIZE - 1) / Long.SIZE];
+        int retained = 0;
+        for (int i = 0; i < table.capacity; i++) {
+            E element = table.slots[i];
+            if (element != null && this.find(element, table.hashes[i]) >= 0) {
+                found[i >>> 6] |= 1L << i;
+                retained++;
+            }
+        }
+        int removed = this.size - retained;
+        if (removed == 0) {
+            return 0;
+        }
+        Arrays.fill(this.slots, null);
+        if (this.robinHood) {
+            Arrays.fill(this.distances, 0);
+        }
+        for (int word = 0; word < found.length; word++) {
+            for (long bits = found[word]; bits != 0; bits &= bits - 1) {
+                int i = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                this.place(table.slots[i], table.hashes[i]);
             }
+        }
+        this.size = retained;
+        return removed;
+    }
 
-            this.size--;
-            this.removeStatus = REMOVE_OK;
+    /*
+     * Sweeps the slots once, starting after a slot that was empty before, so no probe sequence
+     * passes the start and every element is reached after the slots it can be moved back to.
+     * The elements behind removed ones are moved back as remove() does,
+     * a table without an empty slot is rehashed into new slots of the same capacity.
+     */
+    private int removeSlots(IntPredicate isRemoved) {
+        int emptyIndex = this.findEmptyIndex();
+        int removed = 0;
+        if (emptyIndex < 0) {
+            for (int i = 0; i < this.capacity; i++) {
+                if (isRemoved.test(i)) {
+                    this.slots[i] = null;
+                    removed++;
+                }
+            }
+            if (removed > 0) {
+                this.size -= removed;
+                this.resize(this.capacity);
+            }
+            return removed;
+        }
+
+        int index = emptyIndex;
+        int lastEmptyIndex = emptyIndex;
+        int emptyCount = 1;
+        for (int i = 1; i < this.capacity; i++) {
+            index = this.nextIndex(index);
+            if (this.slots[index] != null && isRemoved.test(index)) {
+                this.slots[index] = null;
+                if (this.robinHood) {
+                    this.distances[index] = 0;
+                }
+                removed++;
+            }
+            if (this.slots[index] == null) {
+                lastEmptyIndex = index;
+                emptyCount++;
+            } else if (this.robinHood) {
+                emptyCount = this.shiftBack(index, emptyCount);
+            } else if (this.refill(index, lastEmptyIndex)) {
+                lastEmptyIndex = index;
+            }
         }
+        this.size -= removed;
+        return removed;
     }
 
     /**
@@ -100,6 +341,8 @@ public class HashTable<E> {
     public void clear() {
         this.size = 0;
         this.slots = (E[]) Array.newInstance(Object.class, this.capacity);
+        this.hashes = new int[this.capacity];
+        this.distances = this.robinHood ? new int[this.capacity] : null;
 
         this.putStatus = PUT_NIL;
         this.removeStatus = REMOVE_NIL;
@@ -113,28 +356,7 @@ public class HashTable<E> {
      * @return {@code true} if the element is found in the hash table, {@code false} otherwise
      */
     public boolean contains(E element) {
-        if (element == null) {
-            return false;
-        }
-
-        int hash = this.hashFun(element);
-        if (this.slots[hash] == null) {
-            return false;
-        }
-
-        if (this.slots[hash].equals(element)) {
-            return true;
-        }
-
-        int temp = hash;
-        do {
-            hash = (hash + this.step) % this.capacity;
-            if (this.slots[hash] != null && element.equals(this.slots[hash])) {
-                return true;
-            }
-        } while (hash != temp && this.slots[hash] != null);
-
-        return false;
+        return this.find(element) >= 0;
     }
 
     /**
@@ -159,57 +381,262 @@ public class HashTable<E> {
         return this.size == 0;
     }
 
-    private int seekSlotIndex(E element) {
-        if (element == null) {
-            return -1;
+    /**
+     * @Query
+     * Returns the average number of slots probed to find an element present in the hash table,
+     * 1 means that every element is stored in the slot of its hash
+     *
+     * @return the average probe length or 0 if the hash table is empty
+     */
+    public double getAverageProbeLength() {
+        if (this.size == 0) {
+            return 0;
+        }
+        long probes = 0;
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] != null) {
+                probes += this.distance(i) + 1;
+            }
         }
+        return (double) probes / this.size;
+    }
 
-        int hash = this.hashFun(element);
-        E temp = slots[hash];
-        if (temp == null) {
-            return hash;
-        } else {
-            hash = (hash + this.step) % this.capacity;
-            while (!temp.equals(slots[hash])) {
-                if(slots[hash] == null) {
-                    return hash;
-                }
-                hash = (hash + this.step) % this.capacity;
+    /**
+     * @Query
+     * Returns the variance of the number of slots probed to find an element present in the hash table,
+     * the lower it is the more predictable is the cost of a lookup
+     *
+     * @return the variance of the probe length or 0 if the hash table is empty
+     */
+    public double getProbeLengthVariance() {
+        if (this.size == 0) {
+            return 0;
+        }
+        double average = this.getAverageProbeLength();
+        double squares = 0;
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] != null) {
+                double deviation = this.distance(i) + 1 - average;
+                squares += deviation * deviation;
             }
         }
+        return squares / this.size;
+    }
 
-        return -1;
+    /**
+     * @Query
+     * Returns the largest number of slots probed to find an element present in the hash table
+     *
+     * @return the max probe length or 0 if the hash table is empty
+     */
+    public int getMaxProbeLength() {
+        int maxProbes = 0;
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] != null) {
+                maxProbes = Math.max(maxProbes, this.distance(i) + 1);
+            }
+        }
+        return maxProbes;
     }
 
-    private int find(E element) {
-        if (element == null) {
+    private int seekSlotIndex(int hash) {
+        if (this.capacity == 0) {
             return -1;
         }
-        int hash = this.hashFun(element);
-        if (this.slots[hash] == null) {
+        int homeIndex = this.indexFor(hash);
+        int index = homeIndex;
+        do {
+            if (this.slots[index] == null) {
+                return index;
+            }
+            index = this.nextIndex(index);
+        } while (index != homeIndex);
+
+        return -1;
+    }
+
+    private int find(E element) {
+        if (element == null || this.size == 0) {
             return -1;
         }
-        if (this.slots[hash].equals(element)) {
-            return hash;
+        return this.find(element, spread(element.hashCode()));
+    }
+
+    private int find(E element, int hash) {
+        if (this.robinHood) {
+            return this.findRobinHood(element, hash);
         }
 
-        int temp = hash;
+        int homeIndex = this.indexFor(hash);
+        int index = homeIndex;
         do {
-            hash = (hash + this.step) % this.capacity;
-            if (this.slots[hash] != null && element.equals(this.slots[hash])) {
-                return hash;
+            if (this.slots[index] == null) {
+                return -1;
+            }
+            if (this.hashes[index] == hash && element.equals(this.slots[index])) {
+                return index;
             }
-        } while (hash != temp && this.slots[hash] != null);
+            index = this.nextIndex(index);
+        } while (index != homeIndex);
 
         return -1;
     }
 
-    private int hashFun(E element) {
-        if (element == null) {
+    private void resize(int newCapacity) {
+        E[] oldSlots = this.slots;
+        int[] oldHashes = this.hashes;
+        this.capacity = newCapacity;
+        this.slots = (E[]) Array.newInstance(Object.class, newCapacity);
+        this.hashes = new int[newCapacity];
+        this.resizeThreshold = (int) (newCapacity * this.maxLoadFactor);
+        this.distances = this.robinHood ? new int[newCapacity] : null;
+
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != null) {
+                this.place(oldSlots[i], oldHashes[i]);
+            }
+        }
+    }
+
+    /* Places an element absent from a hash table that has a free slot */
+    private void place(E element, int hash) {
+        if (this.robinHood) {
+            this.placeRobinHood(element, hash);
+            return;
+        }
+        int slotIndex = this.seekSlotIndex(hash);
+        this.slots[slotIndex] = element;
+        this.hashes[slotIndex] = hash;
+    }
+
+    private int findEmptyIndex() {
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* Moves the element to the first empty slot of its probe sequence if it is before the element */
+    private boolean refill(int index, int lastEmptyIndex) {
+        int hash = this.hashes[index];
+        if (this.offset(this.indexFor(hash), index) < this.offset(lastEmptyIndex, index)) {
+            return false;
+        }
+        E element = this.slots[index];
+        this.slots[index] = null;
+        this.place(element, hash);
+        return true;
+    }
+
+    /* Moves the element back over the empty slots before it, but not before its home slot */
+    private int shiftBack(int index, int emptyCount) {
+        int shift = Math.min(this.distances[index], emptyCount);
+        if (shift == 0) {
             return 0;
         }
+        int target = index - shift < 0 ? index - shift + this.capacity : index - shift;
+        this.slots[target] = this.slots[index];
+        this.hashes[target] = this.hashes[index];
+        this.distances[target] = this.distances[index] - shift;
+        this.slots[index] = null;
+        this.distances[index] = 0;
+        return shift;
+    }
+
+    private void placeRobinHood(E element, int hash) {
+        E placed = element;
+        int placedHash = hash;
+        int distance = 0;
+        int index = this.indexFor(placedHash);
+        while (this.slots[index] != null) {
+            if (this.distances[index] < distance) {
+                E displaced = this.slots[index];
+                int displacedHash = this.hashes[index];
+                int displacedDistance = this.distances[index];
+                this.slots[index] = placed;
+                this.hashes[index] = placedHash;
+                this.distances[index] = distance;
+                placed = displaced;
+                placedHash = displacedHash;
+                distance = displacedDistance;
+            }
+            index = this.nextIndex(index);
+            distance++;
+        }
+        this.slots[index] = placed;
+        this.hashes[index] = placedHash;
+        this.distances[index] = distance;
+    }
+
+    private int findRobinHood(E element, int hash) {
+        int index = this.indexFor(hash);
+        for (int distance = 0; distance < this.capacity; distance++) {
+            if (this.slots[index] == null || this.distances[index] < distance) {
+                return -1;
+            }
+            if (this.hashes[index] == hash && element.equals(this.slots[index])) {
+                return index;
+            }
+            index = this.nextIndex(index);
+        }
+        return -1;
+    }
+
+    private void shiftBackFrom(int index) {
+        int freeIndex = index;
+        int shiftedIndex = this.nextIndex(freeIndex);
+        while (this.slots[shiftedIndex] != null && this.distances[shiftedIndex] > 0) {
+            this.slots[freeIndex] = this.slots[shiftedIndex];
+            this.hashes[freeIndex] = this.hashes[shiftedIndex];
+            this.distances[freeIndex] = this.distances[shiftedIndex] - 1;
+            freeIndex = shiftedIndex;
+            shiftedIndex = this.nextIndex(freeIndex);
+        }
+        this.slots[freeIndex] = null;
+        this.distances[freeIndex] = 0;
+    }
+
+    private int offset(int fromIndex, int toIndex) {
+        int offset = toIndex - fromIndex;
+        return offset < 0 ? offset + this.capacity : offset;
+    }
+
+    private int distance(int index) {
+        if (this.robinHood) {
+            return this.distances[index];
+        }
+        return (index - this.indexFor(this.hashes[index]) + this.capacity) % this.capacity;
+    }
+
+    private static int powerOfTwoFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private int indexFor(int hash) {
+        if ((this.capacity & (this.capacity - 1)) == 0) {
+            return hash & (this.capacity - 1);
+        }
+        return (hash & Integer.MAX_VALUE) % this.capacity;
+    }
+
+    private int nextIndex(int index) {
+        int next = index + this.step;
+        return next >= this.capacity ? next - this.capacity : next;
+    }
 
-        return Math.abs(element.hashCode()) % this.capacity;
+    private static int spread(int hashCode) {
+        int hash = hashCode;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
     }
 
     /**
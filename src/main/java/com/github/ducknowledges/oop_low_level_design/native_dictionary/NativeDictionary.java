@@ -31,7 +31,7 @@ public class NativeDictionary<V> {
     private V [] values;
     private int size;
 
-    private final int step = 3;
+    private final int step = 1;
 
     private int putStatus;
     private int removeStatus;
@@ -64,26 +64,39 @@ public class NativeDictionary<V> {
      * @param value the value to be associated with the specified key
      */
     public void put(String key, V value) {
+        this.putStatus = this.tryPut(key, value);
+    }
+
+    /**
+     * @Command
+     * Puts and associates the specified value with the specified key in this map
+     * and return the status of the command instead of recording it for getPutStatus()
+     *
+     * @Pre-condition: the dictionary is not filled
+     * @Post-condition: added value for the key if the key was absent or replaced by the existing value
+     *
+     * @param key the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return {@link #PUT_OK} if the value was putted, {@link #PUT_ERR} otherwise
+     */
+    public int tryPut(String key, V value) {
         if (key == null || this.size == this.capacity) {
-            this.putStatus = PUT_ERR;
-            return;
+            return PUT_ERR;
         }
         int findIndex = findIndex(key);
         if (findIndex >= 0) {
             slots[findIndex] = key;
             values[findIndex] = value;
-            this.putStatus = PUT_OK;
-            return;
+            return PUT_OK;
         }
         int seekIndex = seekSlot(key);
         if (seekIndex >= 0) {
             this.slots[seekIndex] = key;
             this.values[seekIndex] = value;
             this.size++;
-            this.putStatus = PUT_OK;
-            return;
+            return PUT_OK;
         }
-        this.putStatus = PUT_ERR;
+        return PUT_ERR;
     }
 
     /**
@@ -91,23 +104,38 @@ public class NativeDictionary<V> {
      * Removes the key-value pair from this dictionary if it is present
      *
      * @Pre-condition: the key is present in the dictionary
-     * @Post-condition: the pair of the key-value is removed
+     * @Post-condition: the pair of the key-value is removed,
+     *                  the following pairs of the cluster are shifted back to the free slot
      *
      * @param key the key with which the specified value is associated
      */
     public void remove(String key) {
+        this.removeStatus = this.tryRemove(key);
+    }
+
+    /**
+     * @Command
+     * Removes the key-value pair from this dictionary if it is present
+     * and return the status of the command instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: the key is present in the dictionary
+     * @Post-condition: the pair of the key-value is removed,
+     *                  the following pairs of the cluster are shifted back to the free slot
+     *
+     * @param key the key with which the specified value is associated
+     * @return {@link #REMOVE_OK} if the pair was removed, {@link #REMOVE_ERR} otherwise
+     */
+    public int tryRemove(String key) {
         if (key == null) {
-            this.removeStatus = REMOVE_ERR;
+            return REMOVE_ERR;
         }
         int index = findIndex(key);
-        if (index >= 0) {
-            slots[index] = null;
-            values[index] = null;
-            this.size--;
-            this.removeStatus = REMOVE_OK;
-        } else {
-            this.removeStatus = REMOVE_ERR;
+        if (index < 0) {
+            return REMOVE_ERR;
         }
+        this.shiftBackFrom(index);
+        this.size--;
+        return REMOVE_OK;
     }
 
     /**
@@ -209,53 +237,109 @@ public class NativeDictionary<V> {
         return this.getStatus;
     }
 
+    /**
+     * @Query
+     * Returns the average number of slots probed to find a key present in the dictionary,
+     * 1 means that every key is stored in the slot of its hash
+     *
+     * @return the average probe length or 0 if the dictionary is empty
+     */
+    public double getAverageProbeLength() {
+        if (this.size == 0) {
+            return 0;
+        }
+        long probes = 0;
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] != null) {
+                probes += this.probeLength(i);
+            }
+        }
+        return (double) probes / this.size;
+    }
+
+    /**
+     * @Query
+     * Returns the largest number of slots probed to find a key present in the dictionary
+     *
+     * @return the maximum probe length or 0 if the dictionary is empty
+     */
+    public int getMaxProbeLength() {
+        int maxProbes = 0;
+        for (int i = 0; i < this.capacity; i++) {
+            if (this.slots[i] != null) {
+                maxProbes = Math.max(maxProbes, this.probeLength(i));
+            }
+        }
+        return maxProbes;
+    }
+
 
     private int hashFun(String key) {
-        int sum = 0;
         if (key == null) {
-            return sum;
+            return 0;
         }
-        for (char ch: key.toCharArray()) {
-            sum += ch;
-        }
-        return sum % this.capacity;
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % this.capacity;
     }
 
-    private int findIndex(String key) {
-
-        int currentIndex = this.hashFun(key);
-        if (this.slots[currentIndex] != null && this.slots[currentIndex].equals(key)) {
-            return currentIndex;
+    private int probeLength(int index) {
+        int probeIndex = this.hashFun(this.slots[index]);
+        int probes = 1;
+        while (probeIndex != index) {
+            probeIndex = (probeIndex + this.step) % this.capacity;
+            probes++;
         }
+        return probes;
+    }
 
-        int referenceIndex = currentIndex;
-        do {
-            currentIndex = (currentIndex + this.step) % capacity;
-            if (this.slots[currentIndex] != null && key.equals(this.slots[currentIndex])) {
-                return currentIndex;
+    private int findIndex(String key) {
+        int index = this.hashFun(key);
+        for (int probes = 0; probes < this.capacity && this.slots[index] != null; probes++) {
+            if (key.equals(this.slots[index])) {
+                return index;
             }
-        } while (currentIndex != referenceIndex);
-
+            index = (index + this.step) % this.capacity;
+        }
         return -1;
     }
 
     private int seekSlot(String key) {
-
         int index = this.hashFun(key);
-        String temp = this.slots[index];
-        if (temp == null || key.equals(temp)) {
-            return index;
-        } else {
-            index = (index + this.step) % capacity;
-            while (!temp.equals(this.slots[index])) {
-                if(this.slots[index] == null) {
-                    return index;
-                }
-                index = (index + this.step) % this.capacity;
+        for (int probes = 0; probes < this.capacity; probes++) {
+            if (this.slots[index] == null) {
+                return index;
             }
+            index = (index + this.step) % this.capacity;
         }
-
         return -1;
     }
 
+    private void shiftBackFrom(int index) {
+        int freeIndex = index;
+        this.slots[freeIndex] = null;
+        this.values[freeIndex] = null;
+
+        int currentIndex = (freeIndex + this.step) % this.capacity;
+        while (this.slots[currentIndex] != null) {
+            int hash = this.hashFun(this.slots[currentIndex]);
+            if (distance(hash, currentIndex) >= distance(freeIndex, currentIndex)) {
+                this.slots[freeIndex] = this.slots[currentIndex];
+                this.values[freeIndex] = this.values[currentIndex];
+                this.slots[currentIndex] = null;
+                this.values[currentIndex] = null;
+                freeIndex = currentIndex;
+            }
+            currentIndex = (currentIndex + this.step) % this.capacity;
+        }
+    }
+
+    private int distance(int fromIndex, int toIndex) {
+        return (toIndex - fromIndex + this.capacity) % this.capacity;
+    }
+
 }
@@ -0,0 +1,243 @@
+package com.github.ducknowledges.oop_low_level_design.queue;
+
+import java.lang.reflect.Array;
+
+public class ArrayQueue<E> {
+
+    /** Status: add() was not invoked. */
+    public static final int ADD_NIL = 0;
+    /** Status: last add() was invoked successfully. */
+    public static final int ADD_OK = 1;
+    /** Status: if add() was invoked when the queue is completely filled*/
+    public static final int ADD_ERR = 2;
+
+    /** Status: pop() was not invoked. */
+    public static final int POP_NIL = 0;
+    /** Status: last pop() was invoked successfully. */
+    public static final int POP_OK = 1;
+    /** Status: if pop() was invoked when the queue is empty*/
+    public static final int POP_ERR = 2;
+
+    /** Status: peek() was not invoked. */
+    public static final int PEEK_NIL = 0;
+    /** Status: last peek() was invoked successfully. */
+    public static final int PEEK_OK = 1;
+    /** Status: if peek() was invoked when the queue is empty*/
+    public static final int PEEK_ERR = 2;
+
+    private static final int DEFAULT_CAPACITY = 32;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final E[] storage;
+    private final int mask;
+    private final int capacity;
+    private int head;
+    private int size;
+    private int addStatus;
+    private int popStatus;
+    private int peekStatus;
+
+
+    /**
+     * @Constructor
+     * Creates a new ArrayQueue with a determined size.
+     * The ring buffer is preallocated with the length of the nearest power of two
+     * that is not less than the size, so add(), pop() and peek() never allocate,
+     * but the whole buffer takes memory from the start.
+     * @Post-condition: a new empty queue of a certain size was created
+     * @param size the size of the queue, the default size is used if it is not positive
+     * @throws IllegalArgumentException if the size is above 2^30, the largest ring buffer length
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayQueue(int size) {
+        if (size > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Queue size " + size + " exceeds " + MAXIMUM_CAPACITY);
+        }
+        this.capacity = size > 0 ? size : DEFAULT_CAPACITY;
+        int length = Integer.highestOneBit(this.capacity);
+        length = length == this.capacity ? length : length << 1;
+        this.storage = (E[]) Array.newInstance(Object.class, length);
+        this.mask = length - 1;
+        this.head = 0;
+        this.size = 0;
+        this.addStatus = ADD_NIL;
+        this.popStatus = POP_NIL;
+        this.peekStatus = PEEK_NIL;
+    }
+
+    /**
+     * @Constructor
+     * Creates a new ArrayQueue with a default size
+     * @Post-condition: a new empty queue of a default size was created
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /* Commands */
+
+    /**
+     * @Command
+     * Enqueue an element into this queue.
+     * @Pre-condition: queue is not completely filled
+     * @Post-condition: a new element is enqueued into this queue
+     *
+     * @param element the element to be enqueued into this queue.
+     */
+    public void add(E element) {
+        this.addStatus = this.tryAdd(element);
+    }
+
+    /**
+     * @Command
+     * Enqueue an element into this queue and return the status of the command
+     * instead of recording it for getAddStatus()
+     * @Pre-condition: queue is not completely filled
+     * @Post-condition: a new element is enqueued into this queue
+     *
+     * @param element the element to be enqueued into this queue.
+     * @return {@link #ADD_OK} if the command was invoked successfully, {@link #ADD_ERR} otherwise
+     */
+    public int tryAdd(E element) {
+        if (size < capacity) {
+            storage[(head + size) & mask] = element;
+            size++;
+            return ADD_OK;
+        } else {
+            return ADD_ERR;
+        }
+    }
+
+    /**
+     * @Command
+     * Removes the element at the head of this queue
+     * @Pre-condition: queue is not empty
+     * @Post-condition: the head element is removed from the queue
+     */
+    public void pop() {
+        this.popStatus = this.tryPop();
+    }
+
+    /**
+     * @Command
+     * Removes the element at the head of this queue and return the status of the command
+     * instead of recording it for getPopStatus()
+     * @Pre-condition: queue is not empty
+     * @Post-condition: the head element is removed from the queue
+     *
+     * @return {@link #POP_OK} if the command was invoked successfully, {@link #POP_ERR} otherwise
+     */
+    public int tryPop() {
+        if (size == 0) {
+            return POP_ERR;
+        } else {
+            storage[head] = null;
+            head = (head + 1) & mask;
+            size--;
+            return POP_OK;
+        }
+    }
+
+    /**
+     * @Command
+     * Removes all elements from the queue
+     * @Post-condition: all elements are removed from the queue
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.storage[(this.head + i) & this.mask] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.addStatus = ADD_NIL;
+        this.popStatus = POP_NIL;
+        this.peekStatus = PEEK_NIL;
+    }
+
+    /* Queries */
+
+    /**
+     * @Query
+     * Retrieves, but does not remove, the head of the queue.
+     *
+     * @Pre-condition: queue is not empty
+     *
+     * @return the element from head of this queue
+     */
+    public E peek() {
+        boolean isEmpty = size == 0;
+        peekStatus = isEmpty ? PEEK_ERR : PEEK_OK;
+        return isEmpty ? null : storage[head];
+    }
+
+    /**
+     * @Query
+     * Returns the number of elements in this queue
+     *
+     * @return the current number of elements in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @Query
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if queue is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @Query
+     * Returns the number of elements the queue can hold, add() has error beyond it
+     *
+     * @return the size the queue was created with
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * @Query
+     * Returns the status of add() command
+     *
+     * @return one of the following statuses:
+     *          {@link #ADD_NIL} if add() was not invoked
+     *          {@link #ADD_OK}  if last add() was invoked successfully
+     *          {@link #ADD_ERR} if add() has error, the queue is completely filled
+     */
+    public int getAddStatus() {
+        return this.addStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of pop() command
+     *
+     * @return one of the following statuses:
+     *          {@link #POP_NIL} if pop() was not invoked
+     *          {@link #POP_OK}  if last pop() was invoked successfully
+     *          {@link #POP_ERR} if pop() has error, the queue is empty
+     */
+    public int getPopStatus() {
+        return this.popStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of peek() request
+     *
+     * @return one of the following statuses:
+     *          {@link #PEEK_NIL} if peek() was not invoked
+     *          {@link #PEEK_OK}  if last peek() returned the correct result
+     *          {@link #PEEK_ERR} if peek() has error, the queue is empty
+     */
+    public int getPeekStatus() {
+        return this.peekStatus;
+    }
+
+}
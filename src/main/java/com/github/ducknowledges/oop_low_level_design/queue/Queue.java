@@ -69,11 +69,25 @@ public class Queue<E> {
      * @param element the element to be enqueued into this queue.
      */
     public void add(E element) {
+        this.addStatus = this.tryAdd(element);
+    }
+
+    /**
+     * @Command
+     * Enqueue an element into this queue and return the status of the command
+     * instead of recording it for getAddStatus()
+     * @Pre-condition: queue is not completely filled
+     * @Post-condition: a new element is enqueued into this queue
+     *
+     * @param element the element to be enqueued into this queue.
+     * @return {@link #ADD_OK} if the command was invoked successfully, {@link #ADD_ERR} otherwise
+     */
+    public int tryAdd(E element) {
         if (storage.size() < capacity) {
             storage.addLast(element);
-            addStatus = ADD_OK;
+            return ADD_OK;
         } else {
-            addStatus = ADD_ERR;
+            return ADD_ERR;
         }
     }
 
@@ -84,11 +98,24 @@ public class Queue<E> {
      * @Post-condition: the head element is removed from the queue
      */
     public void pop() {
+        this.popStatus = this.tryPop();
+    }
+
+    /**
+     * @Command
+     * Removes the element at the head of this queue and return the status of the command
+     * instead of recording it for getPopStatus()
+     * @Pre-condition: queue is not empty
+     * @Post-condition: the head element is removed from the queue
+     *
+     * @return {@link #POP_OK} if the command was invoked successfully, {@link #POP_ERR} otherwise
+     */
+    public int tryPop() {
         if (storage.isEmpty()) {
-            popStatus = POP_ERR;
+            return POP_ERR;
         } else {
             storage.removeFirst();
-            popStatus = POP_OK;
+            return POP_OK;
         }
     }
 
@@ -0,0 +1,401 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class BitSetPowerSet extends PowerSet<Integer> {
+
+    private static final long BIT = 1L;
+
+    private final int domain;
+    private final long[] words;
+    private int size;
+
+    /**
+     * @Constructor
+     * Creates a new set of integers from 0, inclusive, to domain, exclusive,
+     * backed by a bit per integer of the domain, so it takes domain / 8 bytes
+     * whatever the number of elements is.
+     * intersection(), union(), difference() and isSubset() with another BitSetPowerSet
+     * run word by word over the domain, with any other PowerSet they run element by element.
+     * @Post-condition: a new empty set of the domain was created
+     *
+     * @param domain the number of integers that can be elements of the set
+     */
+    public BitSetPowerSet(int domain) {
+        super(0);
+        this.domain = Math.max(domain, 0);
+        this.words = new long[(int) (((long) this.domain + Long.SIZE - 1) / Long.SIZE)];
+        this.size = 0;
+    }
+
+    /**
+     * @Command
+     * Put element to the set and return the status of the command
+     * instead of recording it for getPutStatus()
+     *
+     * @Pre-condition: the element is in the domain of the set
+     * @Post-condition: the element is present in the set
+     *
+     * @param element the element to be putted into the set.
+     * @return {@link #PUT_OK} if the element is present in the set, {@link #PUT_ERR} otherwise
+     */
+    @Override
+    public int tryPut(Integer element) {
+        if (!this.isInDomain(element)) {
+            return PUT_ERR;
+        }
+        int index = element;
+        long word = this.words[index >>> 6];
+        long mask = BIT << index;
+        if ((word & mask) == 0) {
+            this.words[index >>> 6] = word | mask;
+            this.size++;
+        }
+        return PUT_OK;
+    }
+
+    /**
+     * @Command
+     * Removes the specified element from the set and return the status of the command
+     * instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: the set has an element that will be removed;
+     * @Post-condition: the element is removed from the set
+     *
+     * @param element the element to be removed from this set
+     * @return {@link #REMOVE_OK} if the element was removed, {@link #REMOVE_ERR} otherwise
+     */
+    @Override
+    public int tryRemove(Integer element) {
+        if (!this.contains(element)) {
+            return REMOVE_ERR;
+        }
+        int index = element;
+        this.words[index >>> 6] &= ~(BIT << index);
+        this.size--;
+        return REMOVE_OK;
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are not present in the specified set
+     * and return the status of the command instead of recording it for getRetainAllStatus().
+     * For a BitSetPowerSet it is a word-wise AND in place.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has only the elements present in both sets
+     *
+     * @param set the set whose elements are to be retained in this set
+     * @return {@link #RETAIN_ALL_OK} if the command was invoked successfully, {@link #RETAIN_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryRetainAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return RETAIN_ALL_ERR;
+        }
+        if (set instanceof BitSetPowerSet) {
+            BitSetPowerSet other = (BitSetPowerSet) set;
+            for (int i = 0; i < this.words.length; i++) {
+                this.words[i] &= wordAt(other.words, i);
+            }
+        } else {
+            for (int i = 0; i < this.words.length; i++) {
+                long word = this.words[i];
+                for (long bits = word; bits != 0; bits &= bits - 1) {
+                    int element = i * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    if (!set.contains(element)) {
+                        word &= ~(BIT << element);
+                    }
+                }
+                this.words[i] = word;
+            }
+        }
+        this.size = popCount(this.words);
+        return RETAIN_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Puts to this set the elements of the specified set that are not present in it
+     * and return the status of the command instead of recording it for getAddAllStatus().
+     * For a BitSetPowerSet it is a word-wise OR in place over the domain of this set.
+     *
+     * @Pre-condition: the set is not null, its elements are in the domain of this set
+     * @Post-condition: this set has all elements of both sets that are in its domain
+     *
+     * @param set the set whose elements are to be added to this set
+     * @return {@link #ADD_ALL_OK} if every element is present in this set, {@link #ADD_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryAddAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return ADD_ALL_ERR;
+        }
+        int status = ADD_ALL_OK;
+        if (!(set instanceof BitSetPowerSet)) {
+            for (Integer element : set) {
+                if (this.tryPut(element) != PUT_OK) {
+                    status = ADD_ALL_ERR;
+                }
+            }
+            return status;
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        for (int i = 0; i < other.words.length; i++) {
+            long word = i < this.words.length ? other.words[i] & this.domainMask(i) : 0L;
+            if (word != other.words[i]) {
+                status = ADD_ALL_ERR;
+            }
+            if (i < this.words.length) {
+                this.words[i] |= word;
+            }
+        }
+        this.size = popCount(this.words);
+        return status;
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are present in the specified set
+     * and return the status of the command instead of recording it for getRemoveAllStatus().
+     * For a BitSetPowerSet it is a word-wise AND NOT in place.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has no elements of the specified set
+     *
+     * @param set the set whose elements are to be removed from this set
+     * @return {@link #REMOVE_ALL_OK} if the command was invoked successfully, {@link #REMOVE_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryRemoveAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return REMOVE_ALL_ERR;
+        }
+        if (!(set instanceof BitSetPowerSet)) {
+            for (Integer element : set) {
+                this.tryRemove(element);
+            }
+            return REMOVE_ALL_OK;
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        for (int i = 0; i < this.words.length; i++) {
+            this.words[i] &= ~wordAt(other.words, i);
+        }
+        this.size = popCount(this.words);
+        return REMOVE_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Removes all elements from the set, the domain stays the same
+     *
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(this.words, 0L);
+        this.size = 0;
+    }
+
+    /**
+     * @Query
+     * Checks if the specified element is present in the set
+     *
+     * @param element the element to check for existence in this set
+     * @return {@code true} if the element is found in the set, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(Integer element) {
+        if (!this.isInDomain(element)) {
+            return false;
+        }
+        int index = element;
+        return (this.words[index >>> 6] & (BIT << index)) != 0;
+    }
+
+    /**
+     * @Query
+     * Returns the number of elements in this set
+     *
+     * @return the number of elements currently stored in this set
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @Query
+     * Checks if this set contains no elements.
+     *
+     * @return {@code true} if this set contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @Query
+     * Returns the number of integers that can be elements of the set
+     *
+     * @return the domain size of the set
+     */
+    public int getDomain() {
+        return this.domain;
+    }
+
+    /**
+     * @Query
+     * Returns an iterator over the elements of the set in ascending order.
+     * The set must not be changed while it is iterated.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int wordIndex = 0;
+            private long word = words.length > 0 ? words[0] : 0L;
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && wordIndex + 1 < words.length) {
+                    wordIndex++;
+                    word = words[wordIndex];
+                }
+                return word != 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int element = wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing elements that exist in both this set and the specified set.
+     * For a BitSetPowerSet it is a word-wise AND over the smaller domain.
+     *
+     * @param set the set to be intersected with this set
+     * @return the intersection of the current set with set in the argument
+     */
+    @Override
+    public PowerSet<Integer> intersection(PowerSet<Integer> set) {
+        if (!(set instanceof BitSetPowerSet)) {
+            return super.intersection(set);
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        BitSetPowerSet result = new BitSetPowerSet(Math.min(this.domain, other.domain));
+        for (int i = 0; i < result.words.length; i++) {
+            result.words[i] = this.words[i] & other.words[i];
+        }
+        result.size = popCount(result.words);
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing all elements from both this set and the specified set.
+     * For a BitSetPowerSet it is a word-wise OR over the larger domain.
+     *
+     * @param set the set to be combined with this set
+     * @return the union of the current set with set in the argument
+     */
+    @Override
+    public PowerSet<Integer> union(PowerSet<Integer> set) {
+        if (!(set instanceof BitSetPowerSet)) {
+            return super.union(set);
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        BitSetPowerSet result = new BitSetPowerSet(Math.max(this.domain, other.domain));
+        for (int i = 0; i < result.words.length; i++) {
+            result.words[i] = wordAt(this.words, i) | wordAt(other.words, i);
+        }
+        result.size = popCount(result.words);
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing elements from this set that are not present in the specified set.
+     * For a BitSetPowerSet it is a word-wise AND NOT over the domain of this set.
+     *
+     * @param set the set whose elements are to be excluded from this set
+     * @return the difference between the current set and the set in the argument
+     */
+    @Override
+    public PowerSet<Integer> difference(PowerSet<Integer> set) {
+        if (!(set instanceof BitSetPowerSet)) {
+            return super.difference(set);
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        BitSetPowerSet result = new BitSetPowerSet(this.domain);
+        for (int i = 0; i < result.words.length; i++) {
+            result.words[i] = this.words[i] & ~wordAt(other.words, i);
+        }
+        result.size = popCount(result.words);
+        return result;
+    }
+
+    /**
+     * @Query
+     * Checking whether set in argument is a subset of the current set.
+     * For a BitSetPowerSet every word of the argument is checked to have no bits
+     * that are not set in this set.
+     *
+     * @param set the set to be checked for being a subset of this set
+     * @return {@code true} if the specified set is a subset of this set, {@code false} otherwise
+     */
+    @Override
+    public boolean isSubset(PowerSet<Integer> set) {
+        if (!(set instanceof BitSetPowerSet)) {
+            return super.isSubset(set);
+        }
+        BitSetPowerSet other = (BitSetPowerSet) set;
+        if (this.size < other.size) {
+            return false;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            if ((other.words[i] & ~wordAt(this.words, i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean isStoredInSlots() {
+        return false;
+    }
+
+    private boolean isInDomain(Integer element) {
+        return element != null && element >= 0 && element < this.domain;
+    }
+
+    private long domainMask(int wordIndex) {
+        int bits = this.domain - wordIndex * Long.SIZE;
+        return bits >= Long.SIZE ? -1L : (BIT << bits) - 1;
+    }
+
+    private static long wordAt(long[] words, int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+
+    private static int popCount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
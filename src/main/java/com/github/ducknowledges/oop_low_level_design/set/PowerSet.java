@@ -1,8 +1,45 @@
 package com.github.ducknowledges.oop_low_level_design.set;
 
 import com.github.ducknowledges.oop_low_level_design.hashtable.HashTable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-public class PowerSet<E> extends HashTable<E> {
+public class PowerSet<E> extends HashTable<E> implements Iterable<E> {
+
+    /* Status: retainAll() was not invoked */
+    public static final int RETAIN_ALL_NIL = 0;
+    /* Status: retainAll() was invoked successfully */
+    public static final int RETAIN_ALL_OK = 1;
+    /* Status: retainAll() was invoked with null set */
+    public static final int RETAIN_ALL_ERR = 2;
+
+    /* Status: addAll() was not invoked */
+    public static final int ADD_ALL_NIL = 0;
+    /* Status: addAll() was invoked successfully */
+    public static final int ADD_ALL_OK = 1;
+    /* Status: addAll() was invoked with null set or could not put some of the elements */
+    public static final int ADD_ALL_ERR = 2;
+
+    /* Status: removeAll() was not invoked */
+    public static final int REMOVE_ALL_NIL = 0;
+    /* Status: removeAll() was invoked successfully */
+    public static final int REMOVE_ALL_OK = 1;
+    /* Status: removeAll() was invoked with null set */
+    public static final int REMOVE_ALL_ERR = 2;
+
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int MAXIMUM_RESULT_CAPACITY = 1 << 30;
+    private static final double RESULT_LOAD_FACTOR = 0.75;
+
+    private int retainAllStatus;
+    private int addAllStatus;
+    private int removeAllStatus;
 
     /**
      * @Constructor
@@ -11,24 +48,259 @@ public class PowerSet<E> extends HashTable<E> {
      */
     public PowerSet(int capacity) {
         super(capacity);
+        this.retainAllStatus = RETAIN_ALL_NIL;
+        this.addAllStatus = ADD_ALL_NIL;
+        this.removeAllStatus = REMOVE_ALL_NIL;
+    }
+
+    /**
+     * @Constructor
+     * Creates a new growing set that is rehashed into a twice larger table
+     * every time the number of elements reaches maxLoadFactor * capacity
+     * @Post-condition: a new empty growing set with initial capacity was created
+     */
+    public PowerSet(int capacity, double maxLoadFactor) {
+        super(capacity, maxLoadFactor);
+        this.retainAllStatus = RETAIN_ALL_NIL;
+        this.addAllStatus = ADD_ALL_NIL;
+        this.removeAllStatus = REMOVE_ALL_NIL;
+    }
+
+    /**
+     * @Constructor
+     * Creates a new growing set that uses Robin Hood hashing or linear probing,
+     * the results of intersection(), union() and difference() use the same probing
+     * and the same load factor
+     * @Post-condition: a new empty growing set with initial capacity was created
+     */
+    public PowerSet(int capacity, double maxLoadFactor, boolean robinHood) {
+        super(capacity, maxLoadFactor, robinHood);
+        this.retainAllStatus = RETAIN_ALL_NIL;
+        this.addAllStatus = ADD_ALL_NIL;
+        this.removeAllStatus = REMOVE_ALL_NIL;
+    }
+
+    /**
+     * @Command
+     * Put element to the set and return the status of the command
+     * instead of recording it for getPutStatus().
+     * An element that is already present is not added twice.
+     *
+     * @Pre-condition: The set has a free place for putting an element
+     *                 or the set is growing
+     * @Post-condition: the element is present in the set
+     *
+     * @param element the element to be putted into the set.
+     * @return {@link #PUT_OK} if the element is present in the set, {@link #PUT_ERR} otherwise
+     */
+    @Override
+    public int tryPut(E element) {
+        if (this.contains(element)) {
+            return PUT_OK;
+        }
+        return super.tryPut(element);
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are not present in the specified set.
+     * The elements of a smaller set are looked up in this set and placed back into its cleared slots,
+     * so this set holds the instances of the specified set as intersection() does,
+     * otherwise the elements of this set are looked up in the specified set.
+     * In both cases the slots are reused.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has only the elements present in both sets
+     *
+     * @param set the set whose elements are to be retained in this set
+     */
+    public void retainAll(PowerSet<E> set) {
+        this.retainAllStatus = this.tryRetainAll(set);
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are not present in the specified set
+     * and return the status of the command instead of recording it for getRetainAllStatus()
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has only the elements present in both sets
+     *
+     * @param set the set whose elements are to be retained in this set
+     * @return {@link #RETAIN_ALL_OK} if the command was invoked successfully, {@link #RETAIN_ALL_ERR} otherwise
+     */
+    public int tryRetainAll(PowerSet<E> set) {
+        if (set == null) {
+            return RETAIN_ALL_ERR;
+        }
+        if (set == this) {
+            return RETAIN_ALL_OK;
+        }
+        if (set.size() < this.size() && set.isStoredInSlots()) {
+            this.retainFound(set);
+        } else {
+            this.removeIf(element -> !set.contains(element));
+        }
+        return RETAIN_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Puts to this set the elements of the specified set that are not present in it.
+     * The slots of this set are reused while it has a free place,
+     * a growing set is rehashed as put() does.
+     *
+     * @Pre-condition: the set is not null, this set has a free place for every new element
+     *                 or this set is growing
+     * @Post-condition: this set has all elements of both sets
+     *
+     * @param set the set whose elements are to be added to this set
+     */
+    public void addAll(PowerSet<E> set) {
+        this.addAllStatus = this.tryAddAll(set);
+    }
+
+    /**
+     * @Command
+     * Puts to this set the elements of the specified set that are not present in it
+     * and return the status of the command instead of recording it for getAddAllStatus()
+     *
+     * @Pre-condition: the set is not null, this set has a free place for every new element
+     *                 or this set is growing
+     * @Post-condition: this set has all elements of both sets
+     *
+     * @param set the set whose elements are to be added to this set
+     * @return {@link #ADD_ALL_OK} if every element is present in this set, {@link #ADD_ALL_ERR} otherwise
+     */
+    public int tryAddAll(PowerSet<E> set) {
+        if (set == null) {
+            return ADD_ALL_ERR;
+        }
+        int status = ADD_ALL_OK;
+        if (set == this) {
+            return status;
+        }
+        for (E element : set) {
+            if (!this.contains(element) && this.putAbsent(element) != PUT_OK) {
+                status = ADD_ALL_ERR;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are present in the specified set.
+     * A smaller set is walked removing its elements one by one, otherwise the slots of this set
+     * are filtered in a single pass, in both cases the slots are reused.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has no elements of the specified set
+     *
+     * @param set the set whose elements are to be removed from this set
+     */
+    public void removeAll(PowerSet<E> set) {
+        this.removeAllStatus = this.tryRemoveAll(set);
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are present in the specified set
+     * and return the status of the command instead of recording it for getRemoveAllStatus()
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has no elements of the specified set
+     *
+     * @param set the set whose elements are to be removed from this set
+     * @return {@link #REMOVE_ALL_OK} if the command was invoked successfully, {@link #REMOVE_ALL_ERR} otherwise
+     */
+    public int tryRemoveAll(PowerSet<E> set) {
+        if (set == null) {
+            return REMOVE_ALL_ERR;
+        }
+        if (set == this) {
+            this.removeIf(element -> true);
+        } else if (set.size() < this.size()) {
+            for (E element : set) {
+                this.tryRemove(element);
+            }
+        } else {
+            this.removeIf(set::contains);
+        }
+        return REMOVE_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Removes all elements from the set and resets the statuses
+     *
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.retainAllStatus = RETAIN_ALL_NIL;
+        this.addAllStatus = ADD_ALL_NIL;
+        this.removeAllStatus = REMOVE_ALL_NIL;
+    }
+
+    /**
+     * @Query
+     * Returns an iterator over the elements of the set in no particular order.
+     * The set must not be changed while it is iterated.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < slots.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = slots[index];
+                index = nextOccupied(index + 1);
+                return element;
+            }
+
+            private int nextOccupied(int from) {
+                int occupied = from;
+                while (occupied < slots.length && slots[occupied] == null) {
+                    occupied++;
+                }
+                return occupied;
+            }
+        };
     }
 
     /**
      * @Query
-     * Returns a new PowerSet containing elements that exist in both this set and the specified set
+     * Returns a new PowerSet containing elements that exist in both this set and the specified set.
+     * If the smaller set has at least 2^17 elements, it runs in parallel in the common fork/join pool.
      *
      * @param set the set to be intersected with this set
      * @return the intersection of the current set with set in the argument
      */
     public PowerSet<E> intersection(PowerSet<E> set) {
-        PowerSet<E> result = new PowerSet<>(this.size());
-
         PowerSet<E> smallerSet = (this.size() <= set.size()) ? this : set;
         PowerSet<E> largerSet = (this.size() <= set.size()) ? set : this;
 
-        for (E element : smallerSet.slots) {
-            if (element != null && largerSet.contains(element)) {
-                result.put(element);
+        if (isParallel(smallerSet)) {
+            return this.intersection(set, ForkJoinPool.commonPool());
+        }
+
+        PowerSet<E> result = this.emptyResult(smallerSet.size());
+
+        for (E element : smallerSet) {
+            if (largerSet.contains(element)) {
+                result.putAbsent(element);
             }
         }
 
@@ -37,23 +309,49 @@ public class PowerSet<E> extends HashTable<E> {
 
     /**
      * @Query
-     * Returns a new PowerSet containing all elements from both this set and the specified set
+     * Returns a new PowerSet containing elements that exist in both this set and the specified set.
+     * The slots of the smaller set are split into ranges that are probed in the larger set
+     * by the tasks of the pool, the elements found are put into the result in order of the ranges.
+     *
+     * @param set the set to be intersected with this set
+     * @param pool the fork/join pool that probes the ranges
+     * @return the intersection of the current set with set in the argument
+     */
+    public PowerSet<E> intersection(PowerSet<E> set, ForkJoinPool pool) {
+        PowerSet<E> smallerSet = (this.size() <= set.size()) ? this : set;
+        PowerSet<E> largerSet = (this.size() <= set.size()) ? set : this;
+
+        if (!smallerSet.isStoredInSlots()) {
+            return this.intersection(set);
+        }
+
+        PowerSet<E> result = this.emptyResult(smallerSet.size());
+        putAll(result, filter(smallerSet, largerSet, true, pool));
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new PowerSet containing all elements from both this set and the specified set.
+     * If the specified set has at least 2^17 elements, it runs in parallel in the common fork/join pool.
      *
      * @param set the set to be combined with this set
      * @return the union of the current set with set in the argument
      */
     public PowerSet<E> union(PowerSet<E> set) {
-        PowerSet<E> result = new PowerSet<>(this.size() + set.size());
+        if (isParallel(set)) {
+            return this.union(set, ForkJoinPool.commonPool());
+        }
 
-        for (E element : this.slots) {
-            if (element != null) {
-                result.put(element);
-            }
+        PowerSet<E> result = this.emptyResult(this.size() + set.size());
+
+        for (E element : this) {
+            result.putAbsent(element);
         }
 
-        for (E element : set.slots) {
-            if (element != null) {
-                result.put(element);
+        for (E element : set) {
+            if (!this.contains(element)) {
+                result.putAbsent(element);
             }
         }
 
@@ -62,23 +360,73 @@ public class PowerSet<E> extends HashTable<E> {
 
     /**
      * @Query
-     * Returns a new PowerSet containing elements from this set that are not present in the specified set
+     * Returns a new PowerSet containing all elements from both this set and the specified set.
+     * The slots of the specified set are split into ranges that are probed in this set
+     * by the tasks of the pool, the elements of this set and the elements not found
+     * are put into the result.
+     *
+     * @param set the set to be combined with this set
+     * @param pool the fork/join pool that probes the ranges
+     * @return the union of the current set with set in the argument
+     */
+    public PowerSet<E> union(PowerSet<E> set, ForkJoinPool pool) {
+        if (!set.isStoredInSlots()) {
+            return this.union(set);
+        }
+
+        PowerSet<E> result = this.emptyResult(this.size() + set.size());
+
+        for (E element : this) {
+            result.putAbsent(element);
+        }
+        putAll(result, filter(set, this, false, pool));
+
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new PowerSet containing elements from this set that are not present in the specified set.
+     * If this set has at least 2^17 elements, it runs in parallel in the common fork/join pool.
      *
      * @param set the set whose elements are to be excluded from this set
      * @return the difference between the current set and the set in the argument
      */
     public PowerSet<E> difference(PowerSet<E> set) {
-        PowerSet<E> result = new PowerSet<>(this.size());
+        if (isParallel(this)) {
+            return this.difference(set, ForkJoinPool.commonPool());
+        }
 
-        for (E element : this.slots) {
-            if (element != null && !set.contains(element)) {
-                result.put(element);
+        PowerSet<E> result = this.emptyResult(this.size());
+
+        for (E element : this) {
+            if (!set.contains(element)) {
+                result.putAbsent(element);
             }
         }
 
         return result;
     }
 
+    /**
+     * @Query
+     * Returns a new PowerSet containing elements from this set that are not present in the specified set.
+     * The slots of this set are split into ranges that are probed in the specified set
+     * by the tasks of the pool, the elements not found are put into the result in order of the ranges.
+     *
+     * @param set the set whose elements are to be excluded from this set
+     * @param pool the fork/join pool that probes the ranges
+     * @return the difference between the current set and the set in the argument
+     */
+    public PowerSet<E> difference(PowerSet<E> set, ForkJoinPool pool) {
+        if (!this.isStoredInSlots()) {
+            return this.difference(set);
+        }
+
+        PowerSet<E> result = this.emptyResult(this.size());
+        putAll(result, filter(this, set, false, pool));
+        return result;
+    }
 
     /**
      * @Query
@@ -92,8 +440,8 @@ public class PowerSet<E> extends HashTable<E> {
             return false;
         }
 
-        for (E element : set.slots) {
-            if (element != null && !this.contains(element)) {
+        for (E element : set) {
+            if (!this.contains(element)) {
                 return false;
             }
         }
@@ -101,4 +449,125 @@ public class PowerSet<E> extends HashTable<E> {
         return true;
     }
 
+    /**
+     * @Query
+     * Returns the status of retainAll() command
+     *
+     * @return one of the following statuses:
+     *          {@link #RETAIN_ALL_NIL} if retainAll() was not invoked
+     *          {@link #RETAIN_ALL_OK}  if last retainAll() was invoked successfully
+     *          {@link #RETAIN_ALL_ERR} if retainAll() has error
+     */
+    public int getRetainAllStatus() {
+        return this.retainAllStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of addAll() command
+     *
+     * @return one of the following statuses:
+     *          {@link #ADD_ALL_NIL} if addAll() was not invoked
+     *          {@link #ADD_ALL_OK}  if last addAll() was invoked successfully
+     *          {@link #ADD_ALL_ERR} if addAll() has error
+     */
+    public int getAddAllStatus() {
+        return this.addAllStatus;
+    }
+
+    /**
+     * @Query
+     * Returns the status of removeAll() command
+     *
+     * @return one of the following statuses:
+     *          {@link #REMOVE_ALL_NIL} if removeAll() was not invoked
+     *          {@link #REMOVE_ALL_OK}  if last removeAll() was invoked successfully
+     *          {@link #REMOVE_ALL_ERR} if removeAll() has error
+     */
+    public int getRemoveAllStatus() {
+        return this.removeAllStatus;
+    }
+
+    /**
+     * Creates a growing set that holds the expected number of elements without a rehash.
+     * It is filled up to the load factor of this set, or to 0.75 if this set
+     * has a fixed capacity and is filled up to 1.
+     */
+    private PowerSet<E> emptyResult(int expectedSize) {
+        double loadFactor = this.maxLoadFactor < 1 ? this.maxLoadFactor : RESULT_LOAD_FACTOR;
+        int capacity = (int) Math.min(Math.ceil(expectedSize / loadFactor), MAXIMUM_RESULT_CAPACITY);
+        return new PowerSet<>(capacity, loadFactor, this.robinHood);
+    }
+
+    /* Returns false for the sets that keep their elements outside of slots */
+    boolean isStoredInSlots() {
+        return true;
+    }
+
+    private static boolean isParallel(PowerSet<?> set) {
+        return set.size() >= PARALLEL_THRESHOLD
+                && set.isStoredInSlots()
+                && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    private static <E> List<List<E>> filter(PowerSet<E> source, PowerSet<E> other, boolean contained, ForkJoinPool pool) {
+        int ranges = Math.max(Math.min(pool.getParallelism() * RANGES_PER_THREAD, source.slots.length), 1);
+        List<List<E>> partials = new ArrayList<>(Collections.nCopies(ranges, null));
+        pool.invoke(new RangeFilter<>(source.slots, other, contained, partials, 0, ranges));
+        return partials;
+    }
+
+    private static <E> void putAll(PowerSet<E> result, List<List<E>> partials) {
+        for (List<E> partial : partials) {
+            for (E element : partial) {
+                result.putAbsent(element);
+            }
+        }
+    }
+
+    /**
+     * Collects the elements of the slots whose presence in the other set is the one expected.
+     * The slots are split into partials.size() ranges of equal length, the task halves
+     * its ranges until a single range is left and stores its elements at the index of the range.
+     */
+    private static final class RangeFilter<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] slots;
+        private final PowerSet<E> other;
+        private final boolean contained;
+        private final List<List<E>> partials;
+        private final int fromRange;
+        private final int toRange;
+
+        RangeFilter(E[] slots, PowerSet<E> other, boolean contained, List<List<E>> partials, int fromRange, int toRange) {
+            this.slots = slots;
+            this.other = other;
+            this.contained = contained;
+            this.partials = partials;
+            this.fromRange = fromRange;
+            this.toRange = toRange;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.toRange - this.fromRange > 1) {
+                int middle = (this.fromRange + this.toRange) >>> 1;
+                invokeAll(new RangeFilter<>(this.slots, this.other, this.contained, this.partials, this.fromRange, middle),
+                        new RangeFilter<>(this.slots, this.other, this.contained, this.partials, middle, this.toRange));
+                return;
+            }
+            int from = (int) ((long) this.slots.length * this.fromRange / this.partials.size());
+            int to = (int) ((long) this.slots.length * this.toRange / this.partials.size());
+            List<E> partial = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                E element = this.slots[i];
+                if (element != null && this.other.contains(element) == this.contained) {
+                    partial.add(element);
+                }
+            }
+            this.partials.set(this.fromRange, partial);
+        }
+    }
+
 }
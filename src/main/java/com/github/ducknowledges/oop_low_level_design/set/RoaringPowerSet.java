@@ -0,0 +1,1181 @@
+package com.github.ducknowledges.oop_low_level_design.set;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class RoaringPowerSet extends PowerSet<Integer> {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int ARRAY_MAX_CARDINALITY = 4096;
+    private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+    private static final int INITIAL_CONTAINERS = 4;
+    private static final long BIT = 1L;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    /**
+     * @Constructor
+     * Creates a new compressed set of integers.
+     * Integers are split into chunks of 2^16 by their high 16 bits, every chunk
+     * that has elements is stored in the smallest of three containers:
+     * a sorted array of up to 4096 low 16 bits, a bitmap of 2^16 bits or a list of runs
+     * of consecutive integers. intersection(), union(), difference() and isSubset()
+     * with another RoaringPowerSet run chunk by chunk on the containers,
+     * with any other PowerSet they run element by element.
+     * @Post-condition: a new empty set was created
+     */
+    public RoaringPowerSet() {
+        super(0);
+        this.keys = new char[INITIAL_CONTAINERS];
+        this.containers = new Container[INITIAL_CONTAINERS];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * @Command
+     * Put element to the set and return the status of the command
+     * instead of recording it for getPutStatus().
+     * An element is added to a run container by converting it to an array or a bitmap,
+     * runOptimize() converts it back.
+     *
+     * @Pre-condition: the element is not null
+     * @Post-condition: the element is present in the set
+     *
+     * @param element the element to be putted into the set.
+     * @return {@link #PUT_OK} if the element is present in the set, {@link #PUT_ERR} otherwise
+     */
+    @Override
+    public int tryPut(Integer element) {
+        if (element == null) {
+            return PUT_ERR;
+        }
+        char key = highBits(element);
+        int index = this.indexOfKey(key);
+        if (index < 0) {
+            index = -index - 1;
+            this.insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = this.containers[index];
+        int cardinality = container.cardinality();
+        Container updated = container.add(lowBits(element));
+        this.containers[index] = updated;
+        this.size += updated.cardinality() - cardinality;
+        return PUT_OK;
+    }
+
+    /**
+     * @Command
+     * Removes the specified element from the set and return the status of the command
+     * instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: the set has an element that will be removed;
+     * @Post-condition: the element is removed from the set
+     *
+     * @param element the element to be removed from this set
+     * @return {@link #REMOVE_OK} if the element was removed, {@link #REMOVE_ERR} otherwise
+     */
+    @Override
+    public int tryRemove(Integer element) {
+        if (element == null) {
+            return REMOVE_ERR;
+        }
+        int index = this.indexOfKey(highBits(element));
+        if (index < 0 || !this.containers[index].contains(lowBits(element))) {
+            return REMOVE_ERR;
+        }
+        Container updated = this.containers[index].remove(lowBits(element));
+        if (updated.cardinality() == 0) {
+            this.removeContainer(index);
+        } else {
+            this.containers[index] = updated;
+        }
+        this.size--;
+        return REMOVE_OK;
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are not present in the specified set
+     * and return the status of the command instead of recording it for getRetainAllStatus().
+     * For a RoaringPowerSet the containers of the chunks present in both sets are intersected
+     * and the keys are compacted in place.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has only the elements present in both sets
+     *
+     * @param set the set whose elements are to be retained in this set
+     * @return {@link #RETAIN_ALL_OK} if the command was invoked successfully, {@link #RETAIN_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryRetainAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return RETAIN_ALL_ERR;
+        }
+        if (set == this) {
+            return RETAIN_ALL_OK;
+        }
+        if (!(set instanceof RoaringPowerSet)) {
+            this.filterContainers(set, true);
+            return RETAIN_ALL_OK;
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        int kept = 0;
+        int j = 0;
+        this.size = 0;
+        for (int i = 0; i < this.containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == this.keys[i]) {
+                kept = this.keepContainer(kept, this.keys[i], and(this.containers[i], other.containers[j]));
+            }
+        }
+        this.truncateContainers(kept);
+        return RETAIN_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Puts to this set the elements of the specified set that are not present in it
+     * and return the status of the command instead of recording it for getAddAllStatus().
+     * For a RoaringPowerSet the containers of the chunks present in both sets are combined
+     * and the chunks of the specified set only are merged in from the end of the keys,
+     * which grow once if they have no room for them.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has all elements of both sets
+     *
+     * @param set the set whose elements are to be added to this set
+     * @return {@link #ADD_ALL_OK} if every element is present in this set, {@link #ADD_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryAddAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return ADD_ALL_ERR;
+        }
+        if (set == this) {
+            return ADD_ALL_OK;
+        }
+        if (!(set instanceof RoaringPowerSet)) {
+            for (Integer element : set) {
+                this.tryPut(element);
+            }
+            return ADD_ALL_OK;
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        int count = this.containerCount;
+        int i = 0;
+        for (int j = 0; j < other.containerCount; j++) {
+            while (i < this.containerCount && this.keys[i] < other.keys[j]) {
+                i++;
+            }
+            if (i == this.containerCount || this.keys[i] != other.keys[j]) {
+                count++;
+            }
+        }
+        if (count > this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, count);
+            this.containers = Arrays.copyOf(this.containers, count);
+        }
+        i = this.containerCount - 1;
+        int j = other.containerCount - 1;
+        for (int k = count - 1; j >= 0; k--) {
+            if (i >= 0 && this.keys[i] > other.keys[j]) {
+                this.keys[k] = this.keys[i];
+                this.containers[k] = this.containers[i];
+                i--;
+            } else if (i >= 0 && this.keys[i] == other.keys[j]) {
+                this.keys[k] = this.keys[i];
+                this.containers[k] = or(this.containers[i], other.containers[j]);
+                i--;
+                j--;
+            } else {
+                this.keys[k] = other.keys[j];
+                this.containers[k] = other.containers[j].copy();
+                j--;
+            }
+        }
+        this.containerCount = count;
+        this.size = 0;
+        for (int k = 0; k < count; k++) {
+            this.size += this.containers[k].cardinality();
+        }
+        return ADD_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Removes from this set the elements that are present in the specified set
+     * and return the status of the command instead of recording it for getRemoveAllStatus().
+     * For a RoaringPowerSet the containers of the chunks present in both sets are subtracted
+     * and the keys are compacted in place.
+     *
+     * @Pre-condition: the set is not null
+     * @Post-condition: this set has no elements of the specified set
+     *
+     * @param set the set whose elements are to be removed from this set
+     * @return {@link #REMOVE_ALL_OK} if the command was invoked successfully, {@link #REMOVE_ALL_ERR} otherwise
+     */
+    @Override
+    public int tryRemoveAll(PowerSet<Integer> set) {
+        if (set == null) {
+            return REMOVE_ALL_ERR;
+        }
+        if (set == this) {
+            this.size = 0;
+            this.truncateContainers(0);
+            return REMOVE_ALL_OK;
+        }
+        if (!(set instanceof RoaringPowerSet)) {
+            if (set.size() < this.size) {
+                for (Integer element : set) {
+                    this.tryRemove(element);
+                }
+            } else {
+                this.filterContainers(set, false);
+            }
+            return REMOVE_ALL_OK;
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        int kept = 0;
+        int j = 0;
+        this.size = 0;
+        for (int i = 0; i < this.containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == this.keys[i]) {
+                kept = this.keepContainer(kept, this.keys[i], andNot(this.containers[i], other.containers[j]));
+            } else {
+                kept = this.keepContainer(kept, this.keys[i], this.containers[i]);
+            }
+        }
+        this.truncateContainers(kept);
+        return REMOVE_ALL_OK;
+    }
+
+    /**
+     * @Command
+     * Converts every container to the smallest of the array, bitmap and run encodings.
+     * Results of intersection(), union() and difference() are already converted.
+     *
+     * @Post-condition: every container has the smallest encoding
+     */
+    public void runOptimize() {
+        for (int i = 0; i < this.containerCount; i++) {
+            this.containers[i] = optimize(this.containers[i]);
+        }
+    }
+
+    /**
+     * @Command
+     * Removes all elements from the set
+     *
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.keys = new char[INITIAL_CONTAINERS];
+        this.containers = new Container[INITIAL_CONTAINERS];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * @Query
+     * Checks if the specified element is present in the set
+     *
+     * @param element the element to check for existence in this set
+     * @return {@code true} if the element is found in the set, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(Integer element) {
+        if (element == null) {
+            return false;
+        }
+        int index = this.indexOfKey(highBits(element));
+        return index >= 0 && this.containers[index].contains(lowBits(element));
+    }
+
+    /**
+     * @Query
+     * Returns the number of elements in this set
+     *
+     * @return the number of elements currently stored in this set
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @Query
+     * Checks if this set contains no elements.
+     *
+     * @return {@code true} if this set contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @Query
+     * Returns the number of bytes taken by the keys and the containers data,
+     * without the object headers
+     *
+     * @return the approximate memory footprint of the set
+     */
+    public long getSizeInBytes() {
+        long bytes = (long) this.containerCount * Character.BYTES;
+        for (int i = 0; i < this.containerCount; i++) {
+            bytes += this.containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @Query
+     * Returns an iterator over the elements of the set in ascending unsigned order,
+     * so negative integers follow the positive ones.
+     * The set must not be changed while it is iterated.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int containerIndex = 0;
+            private int low = seek(0);
+
+            @Override
+            public boolean hasNext() {
+                return low >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int element = (keys[containerIndex] << 16) | low;
+                low = seek(low + 1);
+                return element;
+            }
+
+            private int seek(int from) {
+                int value = from;
+                while (containerIndex < containerCount) {
+                    int next = containers[containerIndex].nextValue(value);
+                    if (next >= 0) {
+                        return next;
+                    }
+                    containerIndex++;
+                    value = 0;
+                }
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing elements that exist in both this set and the specified set.
+     * For a RoaringPowerSet only the chunks present in both sets are intersected.
+     *
+     * @param set the set to be intersected with this set
+     * @return the intersection of the current set with set in the argument
+     */
+    @Override
+    public PowerSet<Integer> intersection(PowerSet<Integer> set) {
+        if (!(set instanceof RoaringPowerSet)) {
+            return super.intersection(set);
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        RoaringPowerSet result = new RoaringPowerSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount) {
+            if (this.keys[i] < other.keys[j]) {
+                i++;
+            } else if (this.keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendContainer(this.keys[i], and(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing all elements from both this set and the specified set.
+     * For a RoaringPowerSet the chunks present in one set only are copied.
+     *
+     * @param set the set to be combined with this set
+     * @return the union of the current set with set in the argument
+     */
+    @Override
+    public PowerSet<Integer> union(PowerSet<Integer> set) {
+        if (!(set instanceof RoaringPowerSet)) {
+            return super.union(set);
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        RoaringPowerSet result = new RoaringPowerSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < this.containerCount && this.keys[i] < other.keys[j])) {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+                i++;
+            } else if (i == this.containerCount || this.keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(this.keys[i], or(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Query
+     * Returns a new set containing elements from this set that are not present in the specified set.
+     * For a RoaringPowerSet the chunks absent in the specified set are copied.
+     *
+     * @param set the set whose elements are to be excluded from this set
+     * @return the difference between the current set and the set in the argument
+     */
+    @Override
+    public PowerSet<Integer> difference(PowerSet<Integer> set) {
+        if (!(set instanceof RoaringPowerSet)) {
+            return super.difference(set);
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        RoaringPowerSet result = new RoaringPowerSet();
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == this.keys[i]) {
+                result.appendContainer(this.keys[i], andNot(this.containers[i], other.containers[j]));
+            } else {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Query
+     * Checking whether set in argument is a subset of the current set.
+     * For a RoaringPowerSet every chunk of the argument is checked against the same chunk of this set.
+     *
+     * @param set the set to be checked for being a subset of this set
+     * @return {@code true} if the specified set is a subset of this set, {@code false} otherwise
+     */
+    @Override
+    public boolean isSubset(PowerSet<Integer> set) {
+        if (!(set instanceof RoaringPowerSet)) {
+            return super.isSubset(set);
+        }
+        RoaringPowerSet other = (RoaringPowerSet) set;
+        if (this.size < other.size) {
+            return false;
+        }
+        int i = 0;
+        for (int j = 0; j < other.containerCount; j++) {
+            while (i < this.containerCount && this.keys[i] < other.keys[j]) {
+                i++;
+            }
+            if (i == this.containerCount || this.keys[i] != other.keys[j]
+                    || !isSubset(other.containers[j], this.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean isStoredInSlots() {
+        return false;
+    }
+
+    private int indexOfKey(char key) {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (this.containerCount == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+            this.containers = Arrays.copyOf(this.containers, this.containers.length * 2);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private void appendContainer(char key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        this.insertContainer(this.containerCount, key, container);
+        this.size += container.cardinality();
+    }
+
+    /* Keeps in every chunk the elements whose presence in the set is the one expected */
+    private void filterContainers(PowerSet<Integer> set, boolean contained) {
+        int kept = 0;
+        this.size = 0;
+        for (int i = 0; i < this.containerCount; i++) {
+            int high = this.keys[i] << 16;
+            Container container = this.containers[i];
+            Container filtered = new ArrayContainer();
+            for (int value = container.nextValue(0); value >= 0; value = container.nextValue(value + 1)) {
+                if (set.contains(high | value) == contained) {
+                    filtered = filtered.add((char) value);
+                }
+            }
+            kept = this.keepContainer(kept, this.keys[i], optimize(filtered));
+        }
+        this.truncateContainers(kept);
+    }
+
+    /* Moves a non-empty container to the index kept, that is not greater than its current index */
+    private int keepContainer(int kept, char key, Container container) {
+        if (container.cardinality() == 0) {
+            return kept;
+        }
+        this.keys[kept] = key;
+        this.containers[kept] = container;
+        this.size += container.cardinality();
+        return kept + 1;
+    }
+
+    private void truncateContainers(int count) {
+        Arrays.fill(this.containers, count, this.containerCount, null);
+        this.containerCount = count;
+    }
+
+    private static char highBits(int element) {
+        return (char) (element >>> 16);
+    }
+
+    private static char lowBits(int element) {
+        return (char) element;
+    }
+
+    private static Container and(Container first, Container second) {
+        if (first instanceof ArrayContainer && second instanceof ArrayContainer) {
+            return optimize(ArrayContainer.and((ArrayContainer) first, (ArrayContainer) second));
+        }
+        if (first instanceof ArrayContainer) {
+            return optimize(filter((ArrayContainer) first, second, true));
+        }
+        if (second instanceof ArrayContainer) {
+            return optimize(filter((ArrayContainer) second, first, true));
+        }
+        if (first instanceof RunContainer && second instanceof RunContainer) {
+            return optimize(RunContainer.and((RunContainer) first, (RunContainer) second));
+        }
+        long[] firstWords = bitmapWords(first);
+        long[] secondWords = bitmapWords(second);
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] = firstWords[i] & secondWords[i];
+        }
+        return optimize(new BitmapContainer(words, popCount(words)));
+    }
+
+    private static Container or(Container first, Container second) {
+        if (first instanceof RunContainer && second instanceof RunContainer) {
+            return optimize(RunContainer.or((RunContainer) first, (RunContainer) second));
+        }
+        if (first instanceof ArrayContainer && second instanceof ArrayContainer
+                && first.cardinality() + second.cardinality() <= ARRAY_MAX_CARDINALITY) {
+            return optimize(ArrayContainer.or((ArrayContainer) first, (ArrayContainer) second));
+        }
+        long[] words = new long[BITMAP_WORDS];
+        orInto(words, first);
+        orInto(words, second);
+        return optimize(new BitmapContainer(words, popCount(words)));
+    }
+
+    private static Container andNot(Container first, Container second) {
+        if (first instanceof ArrayContainer) {
+            return optimize(filter((ArrayContainer) first, second, false));
+        }
+        if (first instanceof RunContainer && second instanceof RunContainer) {
+            return optimize(RunContainer.andNot((RunContainer) first, (RunContainer) second));
+        }
+        long[] firstWords = bitmapWords(first);
+        long[] secondWords = bitmapWords(second);
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] = firstWords[i] & ~secondWords[i];
+        }
+        return optimize(new BitmapContainer(words, popCount(words)));
+    }
+
+    private static boolean isSubset(Container subset, Container superset) {
+        if (subset.cardinality() > superset.cardinality()) {
+            return false;
+        }
+        if (subset instanceof ArrayContainer) {
+            return filter((ArrayContainer) subset, superset, false).cardinality() == 0;
+        }
+        if (subset instanceof RunContainer && superset instanceof RunContainer) {
+            return RunContainer.isSubset((RunContainer) subset, (RunContainer) superset);
+        }
+        long[] subsetWords = bitmapWords(subset);
+        long[] supersetWords = bitmapWords(superset);
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            if ((subsetWords[i] & ~supersetWords[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ArrayContainer filter(ArrayContainer array, Container other, boolean contained) {
+        char[] values = new char[Math.max(array.cardinality, 1)];
+        int cardinality = 0;
+        for (int i = 0; i < array.cardinality; i++) {
+            if (other.contains(array.values[i]) == contained) {
+                values[cardinality++] = array.values[i];
+            }
+        }
+        return new ArrayContainer(values, cardinality);
+    }
+
+    /**
+     * Picks the encoding that takes the fewest bytes: 2 per element for an array,
+     * 8 KiB for a bitmap, 4 per run of consecutive values for runs.
+     */
+    private static Container optimize(Container container) {
+        int cardinality = container.cardinality();
+        int arrayBytes = cardinality <= ARRAY_MAX_CARDINALITY ? cardinality * Character.BYTES : Integer.MAX_VALUE;
+        int bitmapBytes = BITMAP_WORDS * Long.BYTES;
+        int runBytes = container.runCount() * 2 * Character.BYTES;
+        if (runBytes < Math.min(arrayBytes, bitmapBytes)) {
+            return container instanceof RunContainer ? container : toRun(container);
+        }
+        if (arrayBytes <= bitmapBytes) {
+            return container instanceof ArrayContainer ? container : toArray(container);
+        }
+        return container instanceof BitmapContainer ? container : new BitmapContainer(bitmapWords(container), cardinality);
+    }
+
+    private static Container toArrayOrBitmap(Container container) {
+        if (container.cardinality() <= ARRAY_MAX_CARDINALITY) {
+            return toArray(container);
+        }
+        return new BitmapContainer(bitmapWords(container), container.cardinality());
+    }
+
+    private static ArrayContainer toArray(Container container) {
+        char[] values = new char[Math.max(container.cardinality(), 1)];
+        int cardinality = 0;
+        for (int value = container.nextValue(0); value >= 0; value = container.nextValue(value + 1)) {
+            values[cardinality++] = (char) value;
+        }
+        return new ArrayContainer(values, cardinality);
+    }
+
+    private static RunContainer toRun(Container container) {
+        RunContainer runs = new RunContainer();
+        for (int value = container.nextValue(0); value >= 0; value = container.nextValue(value + 1)) {
+            runs.appendRun(value, value);
+        }
+        return runs;
+    }
+
+    /**
+     * Returns the words of a bitmap container itself, they must not be changed,
+     * or new words with the values of another container.
+     */
+    private static long[] bitmapWords(Container container) {
+        if (container instanceof BitmapContainer) {
+            return ((BitmapContainer) container).words;
+        }
+        long[] words = new long[BITMAP_WORDS];
+        orInto(words, container);
+        return words;
+    }
+
+    private static void orInto(long[] words, Container container) {
+        if (container instanceof BitmapContainer) {
+            long[] bitmap = ((BitmapContainer) container).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= bitmap[i];
+            }
+        } else if (container instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) container;
+            for (int i = 0; i < array.cardinality; i++) {
+                words[array.values[i] >>> 6] |= BIT << array.values[i];
+            }
+        } else {
+            RunContainer runs = (RunContainer) container;
+            for (int i = 0; i < runs.runCount; i++) {
+                setRange(words, runs.start(i), runs.end(i));
+            }
+        }
+    }
+
+    private static void setRange(long[] words, int start, int end) {
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> (Long.SIZE - 1 - (end & (Long.SIZE - 1)));
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    private static int popCount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Values of a chunk, the low 16 bits of the elements that share the same high 16 bits.
+     * add() and remove() return the container that holds the values after the change,
+     * it is another container if the encoding had to change.
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        /* Returns the smallest value not less than from or -1 if there is no such value */
+        abstract int nextValue(int from);
+
+        abstract int runCount();
+
+        abstract int sizeInBytes();
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[INITIAL_CONTAINERS], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        static ArrayContainer and(ArrayContainer first, ArrayContainer second) {
+            char[] values = new char[Math.max(Math.min(first.cardinality, second.cardinality), 1)];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < first.cardinality && j < second.cardinality) {
+                if (first.values[i] < second.values[j]) {
+                    i++;
+                } else if (first.values[i] > second.values[j]) {
+                    j++;
+                } else {
+                    values[cardinality++] = first.values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        static ArrayContainer or(ArrayContainer first, ArrayContainer second) {
+            char[] values = new char[Math.max(first.cardinality + second.cardinality, 1)];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < first.cardinality || j < second.cardinality) {
+                if (j == second.cardinality || (i < first.cardinality && first.values[i] < second.values[j])) {
+                    values[cardinality++] = first.values[i++];
+                } else if (i == first.cardinality || first.values[i] > second.values[j]) {
+                    values[cardinality++] = second.values[j++];
+                } else {
+                    values[cardinality++] = first.values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (this.cardinality == ARRAY_MAX_CARDINALITY) {
+                return new BitmapContainer(bitmapWords(this), this.cardinality).add(value);
+            }
+            index = -index - 1;
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(this.values.length * 2, ARRAY_MAX_CARDINALITY));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            for (int i = 0; i < this.cardinality; i++) {
+                if (i == 0 || this.values[i] != this.values[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return this.cardinality * Character.BYTES;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(this.cardinality, 1)), this.cardinality);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (this.words[value >>> 6] & (BIT << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long mask = BIT << value;
+            if ((this.words[value >>> 6] & mask) == 0) {
+                this.words[value >>> 6] |= mask;
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long mask = BIT << value;
+            if ((this.words[value >>> 6] & mask) == 0) {
+                return this;
+            }
+            this.words[value >>> 6] &= ~mask;
+            this.cardinality--;
+            return this.cardinality <= ARRAY_MAX_CARDINALITY ? toArray(this) : this;
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int wordIndex = from >>> 6;
+            long word = this.words[wordIndex] & (-1L << from);
+            while (word == 0) {
+                wordIndex++;
+                if (wordIndex == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = this.words[wordIndex];
+            }
+            return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            long carry = 0;
+            for (long word : this.words) {
+                runs += Long.bitCount(word & ~((word << 1) | carry));
+                carry = word >>> (Long.SIZE - 1);
+            }
+            return runs;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+    }
+
+    /**
+     * Sorted runs of consecutive values, stored as pairs of the first value and the length minus one.
+     * add() and remove() convert the runs to an array or a bitmap.
+     */
+    private static final class RunContainer extends Container {
+        private char[] runs;
+        private int runCount;
+        private int cardinality;
+
+        RunContainer() {
+            this(new char[2 * INITIAL_CONTAINERS], 0, 0);
+        }
+
+        RunContainer(char[] runs, int runCount, int cardinality) {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer and(RunContainer first, RunContainer second) {
+            RunContainer result = new RunContainer();
+            int i = 0;
+            int j = 0;
+            while (i < first.runCount && j < second.runCount) {
+                int start = Math.max(first.start(i), second.start(j));
+                int end = Math.min(first.end(i), second.end(j));
+                if (start <= end) {
+                    result.appendRun(start, end);
+                }
+                if (first.end(i) < second.end(j)) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        static RunContainer or(RunContainer first, RunContainer second) {
+            RunContainer result = new RunContainer();
+            int i = 0;
+            int j = 0;
+            while (i < first.runCount || j < second.runCount) {
+                if (j == second.runCount || (i < first.runCount && first.start(i) <= second.start(j))) {
+                    result.appendRun(first.start(i), first.end(i));
+                    i++;
+                } else {
+                    result.appendRun(second.start(j), second.end(j));
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        static RunContainer andNot(RunContainer first, RunContainer second) {
+            RunContainer result = new RunContainer();
+            int j = 0;
+            for (int i = 0; i < first.runCount; i++) {
+                int start = first.start(i);
+                int end = first.end(i);
+                while (j < second.runCount && second.end(j) < start) {
+                    j++;
+                }
+                for (int k = j; k < second.runCount && second.start(k) <= end && start <= end; k++) {
+                    if (second.start(k) > start) {
+                        result.appendRun(start, second.start(k) - 1);
+                    }
+                    start = Math.max(start, second.end(k) + 1);
+                }
+                if (start <= end) {
+                    result.appendRun(start, end);
+                }
+            }
+            return result;
+        }
+
+        static boolean isSubset(RunContainer subset, RunContainer superset) {
+            for (int i = 0; i < subset.runCount; i++) {
+                int index = superset.runIndexFor(subset.start(i));
+                if (index < 0 || subset.end(i) > superset.end(index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /* Appends the run from start to end, inclusive, merging it with the last run if they touch */
+        void appendRun(int start, int end) {
+            if (this.runCount > 0) {
+                int last = this.runCount - 1;
+                int lastEnd = this.end(last);
+                if (start <= lastEnd + 1) {
+                    if (end > lastEnd) {
+                        this.runs[2 * last + 1] = (char) (end - this.start(last));
+                        this.cardinality += end - lastEnd;
+                    }
+                    return;
+                }
+            }
+            if (2 * this.runCount == this.runs.length) {
+                this.runs = Arrays.copyOf(this.runs, this.runs.length * 2);
+            }
+            this.runs[2 * this.runCount] = (char) start;
+            this.runs[2 * this.runCount + 1] = (char) (end - start);
+            this.runCount++;
+            this.cardinality += end - start + 1;
+        }
+
+        int start(int index) {
+            return this.runs[2 * index];
+        }
+
+        int end(int index) {
+            return this.runs[2 * index] + this.runs[2 * index + 1];
+        }
+
+        /* Returns the index of the last run that starts not after the value or -1 */
+        int runIndexFor(int value) {
+            int low = 0;
+            int high = this.runCount - 1;
+            int index = -1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (this.start(middle) <= value) {
+                    index = middle;
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return index;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            int index = this.runIndexFor(value);
+            return index >= 0 && value <= this.end(index);
+        }
+
+        @Override
+        Container add(char value) {
+            if (this.contains(value)) {
+                return this;
+            }
+            return toArrayOrBitmap(this).add(value);
+        }
+
+        @Override
+        Container remove(char value) {
+            if (!this.contains(value)) {
+                return this;
+            }
+            return toArrayOrBitmap(this).remove(value);
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int index = this.runIndexFor(from);
+            if (index >= 0 && from <= this.end(index)) {
+                return from;
+            }
+            return index + 1 < this.runCount ? this.start(index + 1) : -1;
+        }
+
+        @Override
+        int runCount() {
+            return this.runCount;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return this.runCount * 2 * Character.BYTES;
+        }
+
+        @Override
+        Container copy() {
+            return new RunContainer(Arrays.copyOf(this.runs, Math.max(2 * this.runCount, 2)), this.runCount, this.cardinality);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.github.ducknowledges.oop_low_level_design.stack;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.lang.reflect.Array;
 
 public class BoundedStack<T> {
 
@@ -52,8 +51,9 @@ public class BoundedStack<T> {
 
     private static final int DEFAULT_CAPACITY = 32;
 
-    private final List<T> stack;
+    private final T[] stack;
     private final int capacity;
+    private int size;
     private int pushStatus;
     private int peekStatus;
     private int popStatus;
@@ -61,16 +61,19 @@ public class BoundedStack<T> {
 
     /**
      * @Constructor
-     * Creates a new BoundedStack with a determined size
+     * Creates a new BoundedStack with a determined size,
+     * all slots of the stack are preallocated, so push() and pop() never allocate
      * @Post-condition: a new empty stack of a certain size was created
      * @param size the size of the stack.
      */
+    @SuppressWarnings("unchecked")
     public BoundedStack(int size) {
         this.capacity = size > 0 ? size : DEFAULT_CAPACITY;
         this.pushStatus = PUSH_NIL;
         this.peekStatus = PEEK_NIL;
         this.popStatus = POP_NIL;
-        this.stack = new LinkedList<>();
+        this.stack = (T[]) Array.newInstance(Object.class, this.capacity);
+        this.size = 0;
     }
 
     /**
@@ -91,11 +94,26 @@ public class BoundedStack<T> {
      * @param element the element to be pushed onto this stack.
      */
     public void push(T element) {
-        if (stack.size() < capacity) {
-            stack.add(element);
-            pushStatus = PUSH_OK;
+        this.pushStatus = this.tryPush(element);
+    }
+
+    /**
+     * @Command
+     * Pushes an element onto the top of this stack and return the status of the command
+     * instead of recording it for getPushStatus()
+     * @Pre-condition: stack is not completely filled
+     * @Post-condition: a new element is pushed onto the top of this stack
+     *
+     * @param element the element to be pushed onto this stack.
+     * @return {@link #PUSH_OK} if the command was invoked successfully, {@link #PUSH_ERR} otherwise
+     */
+    public int tryPush(T element) {
+        if (size < capacity) {
+            stack[size] = element;
+            size++;
+            return PUSH_OK;
         } else {
-            pushStatus = PUSH_ERR;
+            return PUSH_ERR;
         }
     }
 
@@ -106,11 +124,25 @@ public class BoundedStack<T> {
      * @Post-condition: the top element is removed from the stack
      */
     public void pop() {
-        if (stack.isEmpty()) {
-            popStatus = POP_ERR;
+        this.popStatus = this.tryPop();
+    }
+
+    /**
+     * @Command
+     * Removes the element at the top of this stack and return the status of the command
+     * instead of recording it for getPopStatus()
+     * @Pre-condition: stack is not empty
+     * @Post-condition: the top element is removed from the stack
+     *
+     * @return {@link #POP_OK} if the command was invoked successfully, {@link #POP_ERR} otherwise
+     */
+    public int tryPop() {
+        if (size == 0) {
+            return POP_ERR;
         } else {
-            stack.remove(stack.size() - 1);
-            popStatus = POP_OK;
+            size--;
+            stack[size] = null;
+            return POP_OK;
         }
     }
 
@@ -120,7 +152,10 @@ public class BoundedStack<T> {
      * @Post-condition: all elements are removed from the stack
      */
     public void clear() {
-        this.stack.clear();
+        for (int i = 0; i < this.size; i++) {
+            this.stack[i] = null;
+        }
+        this.size = 0;
         this.pushStatus = PUSH_NIL;
         this.popStatus = POP_NIL;
         this.peekStatus = PEEK_NIL;
@@ -135,9 +170,9 @@ public class BoundedStack<T> {
      * @return the element at the top of this stack
      */
     public T peek() {
-        boolean isNotEmpty = !stack.isEmpty();
+        boolean isNotEmpty = size > 0;
         peekStatus = isNotEmpty ? PEEK_OK : PEEK_ERR;
-        return isNotEmpty ? stack.get(stack.size() - 1) : null;
+        return isNotEmpty ? stack[size - 1] : null;
     }
 
     /**
@@ -147,7 +182,7 @@ public class BoundedStack<T> {
      * @return the current number of elements in the stack
      */
     public int size() {
-        return this.stack.size();
+        return this.size;
     }
 
     /**
@@ -126,11 +126,25 @@ public abstract class ParentList<E> {
      *
      */
     void head() {
+        this.headStatus = this.tryHead();
+    }
+
+    /**
+     * @Command
+     * Sets the first element as current and return the status of the command
+     * instead of recording it for getHeadStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: first element becomes current
+     *
+     * @return {@link #HEAD_OK} if the command was invoked successfully, {@link #HEAD_ERR} otherwise
+     */
+    int tryHead() {
         if (isValue()) {
             this.current = dumbHead.getNext();
-            this.headStatus = HEAD_OK;
+            return HEAD_OK;
         } else {
-            this.headStatus = HEAD_ERR;
+            return HEAD_ERR;
         }
     }
 
@@ -143,11 +157,25 @@ public abstract class ParentList<E> {
      *
      */
     void tail() {
+        this.tailStatus = this.tryTail();
+    }
+
+    /**
+     * @Command
+     * Sets the last element as current and return the status of the command
+     * instead of recording it for getTailStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: last element becomes current
+     *
+     * @return {@link #TAIL_OK} if the command was invoked successfully, {@link #TAIL_ERR} otherwise
+     */
+    int tryTail() {
         if (isValue()) {
             this.current = dumbTail.getPrev();
-            this.tailStatus = TAIL_OK;
+            return TAIL_OK;
         } else {
-            this.tailStatus = TAIL_ERR;
+            return TAIL_ERR;
         }
     }
 
@@ -160,11 +188,25 @@ public abstract class ParentList<E> {
      *
      */
     void right() {
+        this.rightStatus = this.tryRight();
+    }
+
+    /**
+     * @Command
+     * Sets the next element as current and return the status of the command
+     * instead of recording it for getRightStatus()
+     *
+     * @Pre-condition: the list is not empty && and the current element is not last
+     * @Post-condition: next element becomes current
+     *
+     * @return {@link #RIGHT_OK} if the command was invoked successfully, {@link #RIGHT_ERR} otherwise
+     */
+    int tryRight() {
         if (isValue() && !isTail()) {
             this.current = this.current.getNext();
-            this.rightStatus = RIGHT_OK;
+            return RIGHT_OK;
         } else {
-            this.rightStatus = RIGHT_ERR;
+            return RIGHT_ERR;
         }
     }
 
@@ -178,15 +220,30 @@ public abstract class ParentList<E> {
      * @param element the element to be putted after the current node
      */
     void putRight(E element) {
+        this.putRightStatus = this.tryPutRight(element);
+    }
+
+    /**
+     * @Command
+     * Put a new element after the current element and return the status of the command
+     * instead of recording it for getPutRightStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: new element is putted after current element
+     *
+     * @param element the element to be putted after the current node
+     * @return {@link #PUT_RIGHT_OK} if the command was invoked successfully, {@link #PUT_RIGHT_ERR} otherwise
+     */
+    int tryPutRight(E element) {
         if (isValue()) {
             Node<E> currentNode = this.current;
             Node<E> newNode = new Node<>(element, currentNode.getNext(), currentNode);
             currentNode.getNext().setPrev(newNode);
             currentNode.setNext(newNode);
             this.size++;
-            this.putRightStatus = PUT_RIGHT_OK;
+            return PUT_RIGHT_OK;
         } else {
-            this.putRightStatus = PUT_RIGHT_ERR;
+            return PUT_RIGHT_ERR;
         }
     }
 
@@ -200,14 +257,29 @@ public abstract class ParentList<E> {
      * @param element the element to be putted before the current element
      */
     void putLeft(E element) {
+        this.putLeftStatus = this.tryPutLeft(element);
+    }
+
+    /**
+     * @Command
+     * Put a new element before the current element and return the status of the command
+     * instead of recording it for getPutLeftStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: new element is putted before the current element
+     *
+     * @param element the element to be putted before the current element
+     * @return {@link #PUT_LEFT_OK} if the command was invoked successfully, {@link #PUT_LEFT_ERR} otherwise
+     */
+    int tryPutLeft(E element) {
         if (isValue()) {
             Node<E> currentNode = this.current;
             Node<E> newNode = new Node<>(element, currentNode, currentNode.getPrev());
             currentNode.getPrev().setNext(newNode);
             currentNode.setPrev(newNode);
-            this.putLeftStatus = PUT_LEFT_OK;
+            return PUT_LEFT_OK;
         } else {
-            this.putLeftStatus = PUT_LEFT_ERR;
+            return PUT_LEFT_ERR;
         }
     }
 
@@ -222,6 +294,23 @@ public abstract class ParentList<E> {
      *                  - if was removed last element in the list, then current element is empty
      */
     void remove() {
+        this.removeStatus = this.tryRemove();
+    }
+
+    /**
+     * @Command
+     * Removes the current element and return the status of the command
+     * instead of recording it for getRemoveStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: current element is removed.
+     *                  - if next element exists, it becomes current,
+     *                  - otherwise if previous element exists, it becomes current
+     *                  - if was removed last element in the list, then current element is empty
+     *
+     * @return {@link #REMOVE_OK} if the command was invoked successfully, {@link #REMOVE_ERR} otherwise
+     */
+    int tryRemove() {
         if (isValue()) {
             Node<E> prevNode = this.current.getPrev();
             Node<E> nextNode = this.current.getNext();
@@ -235,9 +324,9 @@ public abstract class ParentList<E> {
             }
 
             this.size--;
-            this.removeStatus = REMOVE_OK;
+            return REMOVE_OK;
         } else {
-            this.removeStatus = REMOVE_ERR;
+            return REMOVE_ERR;
         }
     }
 
@@ -251,14 +340,29 @@ public abstract class ParentList<E> {
      * @param element the element to be added to the empty list
      */
     void addToEmpty(E element) {
+        this.addToEmptyStatus = this.tryAddToEmpty(element);
+    }
+
+    /**
+     * @Command
+     * Adds an element to an empty list and return the status of the command
+     * instead of recording it for getAddToEmptyStatus()
+     *
+     * @Pre-condition: the list is empty
+     * @Post-condition: element is added to the list and becomes current
+     *
+     * @param element the element to be added to the empty list
+     * @return {@link #ADD_TO_EMPTY_OK} if the command was invoked successfully, {@link #ADD_TO_EMPTY_ERR} otherwise
+     */
+    int tryAddToEmpty(E element) {
         if (isValue()) {
-            this.addToEmptyStatus = ADD_TO_EMPTY_ERR;
+            return ADD_TO_EMPTY_ERR;
         } else {
             this.current = new Node<>(element, this.dumbTail, this.dumbHead);
             this.dumbHead.setNext(current);
             this.dumbTail.setPrev(current);
             this.size++;
-            this.addToEmptyStatus = ADD_TO_EMPTY_OK;
+            return ADD_TO_EMPTY_OK;
         }
     }
 
@@ -291,11 +395,26 @@ public abstract class ParentList<E> {
      * @param element the new element that replaces the current element
      */
     void replace(E element) {
+        this.replaceStatus = this.tryReplace(element);
+    }
+
+    /**
+     * @Command
+     * Replaces current element with a new element and return the status of the command
+     * instead of recording it for getReplaceStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: current element is replaced with the new element
+     *
+     * @param element the new element that replaces the current element
+     * @return {@link #REPLACE_OK} if the command was invoked successfully, {@link #REPLACE_ERR} otherwise
+     */
+    int tryReplace(E element) {
         if (isValue()) {
             this.current.setElement(element);
-            this.replaceStatus = REPLACE_OK;
+            return REPLACE_OK;
         } else {
-            this.replaceStatus = REPLACE_ERR;
+            return REPLACE_ERR;
         }
     }
 
@@ -310,18 +429,33 @@ public abstract class ParentList<E> {
      * @param element the element to search for in the list
      */
     void find(E element) {
-        this.findStatus = FIND_ERR;
+        this.findStatus = this.tryFind(element);
+    }
+
+    /**
+     * @Command
+     * Finds for the next equivalent of an element, and make it current element
+     * and return the status of the command instead of recording it for getFindStatus()
+     *
+     * @Pre-condition: the list is not empty
+     * @Post-condition: if element is found, it becomes current,
+     *                  otherwise current position remains unchanged
+     *
+     * @param element the element to search for in the list
+     * @return {@link #FIND_OK} if the element was found, {@link #FIND_ERR} otherwise
+     */
+    int tryFind(E element) {
         if (isValue()) {
             Node<E> currentNode = this.current;
             while (!(currentNode.getNext() instanceof DumbTail)) {
                 currentNode = currentNode.getNext();
                 if ( Objects.equals(currentNode.getElement(), element)) {
                     this.current = currentNode;
-                    this.findStatus = FIND_OK;
-                    return;
+                    return FIND_OK;
                 }
             }
         }
+        return FIND_ERR;
     }
 
     /**
@@ -663,18 +797,32 @@ class TwoWayList<T> extends ParentList<T> {
 
     /**
      * @Command
-     * Sets the next element as current.
+     * Sets the previous element as current.
      *
      * @Pre-condition: the list is not empty && and the current element is not first
      * @Post-condition: previous element becomes current
      *
      */
     void left() {
+        this.leftStatus = this.tryLeft();
+    }
+
+    /**
+     * @Command
+     * Sets the previous element as current and return the status of the command
+     * instead of recording it for getLeftStatus()
+     *
+     * @Pre-condition: the list is not empty && and the current element is not first
+     * @Post-condition: previous element becomes current
+     *
+     * @return {@link #LEFT_OK} if the command was invoked successfully, {@link #LEFT_ERR} otherwise
+     */
+    int tryLeft() {
         if (isValue() && !isHead()) {
             this.current = this.current.getPrev();
-            this.leftStatus = LEFT_OK;
+            return LEFT_OK;
         } else {
-            this.leftStatus = LEFT_ERR;
+            return LEFT_ERR;
         }
     }
 